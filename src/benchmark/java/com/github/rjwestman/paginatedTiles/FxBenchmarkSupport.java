@@ -0,0 +1,139 @@
+package com.github.rjwestman.paginatedTiles;
+
+import com.sun.javafx.application.PlatformImpl;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Pos;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Shared setup of the benchmarks: starts the JavaFX toolkit once, runs code on the JavaFX Application Thread
+ * and builds PaginatedTiles controls with cells of a configurable complexity.
+ *
+ * <p>
+ * The benchmarks are built with the benchmark profile and run headless using Monocle:
+ * </p>
+ * <pre>
+ *     mvn -P benchmark package
+ *     java -jar target/paginatedTiles-0.2-benchmarks.jar
+ * </pre>
+ * The forked benchmark JVMs get the Monocle system properties from the {@code @Fork} annotations.
+ */
+final class FxBenchmarkSupport {
+
+    private FxBenchmarkSupport() {
+    }
+
+    private static boolean toolkitStarted;
+
+    /**
+     * Starts the JavaFX toolkit, if it is not running yet.
+     */
+    static synchronized void startToolkit() throws InterruptedException {
+        if ( toolkitStarted ) {
+            return;
+        }
+        CountDownLatch started = new CountDownLatch(1);
+        PlatformImpl.startup(started::countDown);
+        started.await();
+        Platform.setImplicitExit(false);
+        toolkitStarted = true;
+    }
+
+    /**
+     * Runs the task on the JavaFX Application Thread and waits for its result.
+     */
+    static <V> V callOnFx( Callable<V> task ) throws InterruptedException, ExecutionException {
+        FutureTask<V> future = new FutureTask<>(task);
+        Platform.runLater(future);
+        return future.get();
+    }
+
+    /**
+     * Runs the task on the JavaFX Application Thread and waits until it finished.
+     */
+    static void runOnFx( Runnable task ) throws InterruptedException, ExecutionException {
+        callOnFx( () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Lets everything the skin deferred with runLater happen (coalesced resizes, page count changes,
+     * prefetching) and lays out the control after each step, like consecutive pulses would.
+     */
+    static void settle( PaginatedTiles<?> paginatedTiles ) throws InterruptedException, ExecutionException {
+        for ( int i = 0; i < 3; i++ ) {
+            runOnFx( () -> layout(paginatedTiles) );
+        }
+    }
+
+    /**
+     * Applies css and lays out the control synchronously. Must be called on the JavaFX Application Thread.
+     */
+    static void layout( PaginatedTiles<?> paginatedTiles ) {
+        paginatedTiles.applyCss();
+        paginatedTiles.layout();
+    }
+
+    /**
+     * Creates a PaginatedTiles control of the given size in a scene without a window.
+     * Must be called on the JavaFX Application Thread.
+     *
+     * @param itemCount the number of data items
+     * @param tileSize the width and height of the tiles
+     * @param cellComplexity the number of labels per cell
+     * @param width the width of the control
+     * @param height the height of the control
+     */
+    static PaginatedTiles<String> createControl( int itemCount, double tileSize, int cellComplexity, double width, double height ) {
+        ObservableList<String> itemList = FXCollections.observableArrayList();
+        for ( int i = 0; i < itemCount; i++ ) {
+            itemList.add("Item " + i);
+        }
+
+        PaginatedTiles<String> paginatedTiles = new PaginatedTiles<>(itemList, tileSize, tileSize);
+        paginatedTiles.setCellFactory( param -> new BenchmarkCell(cellComplexity) );
+        new Scene(new Group(paginatedTiles));
+        paginatedTiles.resize(width, height);
+        layout(paginatedTiles);
+        return paginatedTiles;
+    }
+
+    /**
+     * A tile cell whose cost is scaled by the number of labels it holds.
+     */
+    static final class BenchmarkCell extends PaginatedTilesCell<String> {
+
+        private final Label[] labels;
+
+        BenchmarkCell( int complexity ) {
+            labels = new Label[complexity];
+            VBox vBox = new VBox();
+            vBox.setAlignment(Pos.CENTER);
+            for ( int i = 0; i < complexity; i++ ) {
+                labels[i] = new Label();
+                vBox.getChildren().add(labels[i]);
+            }
+            getChildren().add(vBox);
+        }
+
+        @Override
+        public void updateCell( String item ) {
+            for ( int i = 0; i < labels.length; i++ ) {
+                labels[i].setText(item);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,315 @@
+package com.github.rjwestman.paginatedTiles;
+
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.SimpleListProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A headless soak test for long running sessions. It flips through thousands of pages, swaps the skin, the item
+ * list, the selection model and the display mode of a control over and over, and checks that nothing accumulates:
+ * replaced skins, item lists and selection models must be garbage collected, replaced item lists must have no
+ * listeners left, the listeners on the item list property of the control, the number of live tile cells and the
+ * retained heap must stay flat. Fails with an AssertionError listing the failed checks.
+ *
+ * <p>
+ * The benchmark profile runs it with a few rounds in the integration-test phase, a long session runs it by hand:
+ * </p>
+ * <pre>
+ *     mvn -P benchmark verify -Dsoak.rounds=200
+ *     java -cp target/paginatedTiles-0.2-benchmarks.jar com.github.rjwestman.paginatedTiles.LeakSoakTest [rounds]
+ * </pre>
+ */
+public final class LeakSoakTest {
+
+    private static final int ITEM_COUNT = 20_000;
+    private static final int FLIPS_PER_ROUND = 1000;
+    /** The retained heap may grow by this many bytes between the first and the last round */
+    private static final long HEAP_TOLERANCE = 8L * 1024 * 1024;
+
+    private static final AtomicInteger liveCells = new AtomicInteger();
+
+    private LeakSoakTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("glass.platform", "Monocle");
+        System.setProperty("monocle.platform", "Headless");
+        System.setProperty("prism.order", "sw");
+        System.setProperty("java.awt.headless", "true");
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+
+        FxBenchmarkSupport.startToolkit();
+        try {
+            soak(rounds);
+        } finally {
+            // Lets the JVM exit, with status 1 if the soak test failed
+            Platform.exit();
+        }
+        System.out.println("Soak test passed");
+    }
+
+    private static void soak( int rounds ) throws Exception {
+        SoakTiles control = FxBenchmarkSupport.callOnFx( () -> {
+            SoakTiles paginatedTiles = new SoakTiles();
+            paginatedTiles.setCellFactory( param -> new SoakCell() );
+            paginatedTiles.setPrefetchRadius(1);
+            paginatedTiles.setPageCacheSize(4);
+            new Scene(new Group(paginatedTiles));
+            paginatedTiles.resize(800, 600);
+            paginatedTiles.itemListProperty().set(createItemList());
+            FxBenchmarkSupport.layout(paginatedTiles);
+            return paginatedTiles;
+        });
+
+        List<WeakReference<Object>> replaced = new ArrayList<>();
+        List<CountingList> replacedLists = new ArrayList<>();
+        Random random = new Random(42);
+        long baselineHeap = 0;
+        int baselineCells = 0;
+        int baselinePropertyListeners = 0;
+
+        for ( int round = 0; round < rounds; round++ ) {
+            for ( int flip = 0; flip < FLIPS_PER_ROUND; flip++ ) {
+                int index = random.nextInt(ITEM_COUNT);
+                FxBenchmarkSupport.runOnFx( () -> {
+                    control.showIndex(index);
+                    FxBenchmarkSupport.layout(control);
+                });
+            }
+
+            int currentRound = round;
+            FxBenchmarkSupport.runOnFx( () -> {
+                // Swap the skin
+                replaced.add(new WeakReference<>(control.getSkin()));
+                control.setSkin(new PaginatedTilesSkin<>(control));
+
+                // Swap the selection model, the replaced one has to detach from the item list property
+                replaced.add(new WeakReference<>(control.getSelectionModel()));
+                control.setSelectionModel(new PaginatedTilesSelectionModel<>(control));
+
+                // Swap the item list, the old one is checked for listeners left behind
+                CountingList oldList = (CountingList) control.getItemList();
+                replacedLists.add(oldList);
+                replaced.add(new WeakReference<>(oldList));
+                control.itemListProperty().set(createItemList());
+
+                // Switch the display mode every few rounds
+                if ( currentRound % 4 == 3 ) {
+                    control.setDisplayMode(control.getDisplayMode() == PaginatedTiles.DisplayMode.PAGINATED
+                            ? PaginatedTiles.DisplayMode.SCROLLING : PaginatedTiles.DisplayMode.PAGINATED);
+                }
+                FxBenchmarkSupport.layout(control);
+            });
+            FxBenchmarkSupport.settle(control);
+
+            long heap = retainedHeap();
+            int cells = liveCells.get();
+            int propertyListeners = control.itemListProperty().getListenerCount();
+            System.out.printf("Round %d: retained heap %d KB, live cells %d, item list property listeners %d%n",
+                    round, heap / 1024, cells, propertyListeners);
+            if ( round == 0 ) {
+                baselineHeap = heap;
+                baselineCells = cells;
+                baselinePropertyListeners = propertyListeners;
+            }
+        }
+
+        List<String> failures = new ArrayList<>();
+        for ( CountingList list : replacedLists ) {
+            if ( list.getListenerCount() != 0 ) {
+                failures.add("A replaced item list still has " + list.getListenerCount() + " listeners");
+                break;
+            }
+        }
+        replacedLists.clear();
+        // The skins and selection models register on the item list property of the control, not on the item list
+        int propertyListeners = control.itemListProperty().getListenerCount();
+        if ( propertyListeners > baselinePropertyListeners ) {
+            failures.add("Listeners on the item list property grew from " + baselinePropertyListeners + " to " + propertyListeners);
+        }
+        retainedHeap();
+        long retainedObjects = replaced.stream().filter( reference -> reference.get() != null ).count();
+        if ( retainedObjects > 0 ) {
+            failures.add(retainedObjects + " replaced skins, item lists or selection models were not garbage collected");
+        }
+        if ( liveCells.get() > baselineCells ) {
+            failures.add("Live cells grew from " + baselineCells + " to " + liveCells.get());
+        }
+        long heap = retainedHeap();
+        if ( heap > baselineHeap + HEAP_TOLERANCE ) {
+            failures.add("Retained heap grew from " + baselineHeap / 1024 + " KB to " + heap / 1024 + " KB");
+        }
+
+        if ( !failures.isEmpty() ) {
+            throw new AssertionError("Soak test failed:\n" + String.join("\n", failures));
+        }
+    }
+
+    private static CountingList createItemList() {
+        CountingList itemList = new CountingList();
+        List<String> items = new ArrayList<>(ITEM_COUNT);
+        for ( int i = 0; i < ITEM_COUNT; i++ ) {
+            items.add("Item " + i);
+        }
+        itemList.addAll(items);
+        return itemList;
+    }
+
+    /**
+     * Collects garbage until the used heap does not shrink anymore and returns it.
+     */
+    private static long retainedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for ( int i = 0; i < 10; i++ ) {
+            System.gc();
+            Thread.sleep(50);
+            long nowUsed = runtime.totalMemory() - runtime.freeMemory();
+            if ( nowUsed >= used ) {
+                break;
+            }
+            used = nowUsed;
+        }
+        return used;
+    }
+
+    /**
+     * A control whose item list property counts its listeners.
+     */
+    private static final class SoakTiles extends PaginatedTiles<String> {
+
+        SoakTiles() {
+            super(50, 50, new CountingListProperty());
+        }
+
+        @Override public CountingListProperty itemListProperty() {
+            return (CountingListProperty) super.itemListProperty();
+        }
+    }
+
+    /**
+     * A list property that counts its list change and invalidation listeners. It is the item list property of
+     * the control itself, so every listener the skins and selection models register on it is counted.
+     */
+    private static final class CountingListProperty extends SimpleListProperty<String> {
+
+        private int listenerCount;
+
+        CountingListProperty() {
+            super(FXCollections.observableArrayList());
+        }
+
+        int getListenerCount() {
+            return listenerCount;
+        }
+
+        @Override public void addListener( ListChangeListener<? super String> listener ) {
+            listenerCount++;
+            super.addListener(listener);
+        }
+
+        @Override public void removeListener( ListChangeListener<? super String> listener ) {
+            listenerCount--;
+            super.removeListener(listener);
+        }
+
+        @Override public void addListener( InvalidationListener listener ) {
+            listenerCount++;
+            super.addListener(listener);
+        }
+
+        @Override public void removeListener( InvalidationListener listener ) {
+            listenerCount--;
+            super.removeListener(listener);
+        }
+    }
+
+    /**
+     * A tile cell that counts the cells that were created and not disposed yet.
+     */
+    private static final class SoakCell extends PaginatedTilesCell<String> {
+
+        private final Label label = new Label();
+
+        SoakCell() {
+            liveCells.incrementAndGet();
+            getChildren().add(label);
+        }
+
+        @Override
+        public void updateCell( String item ) {
+            label.setText(item);
+        }
+
+        @Override
+        public void disposeCell() {
+            liveCells.decrementAndGet();
+        }
+    }
+
+    /**
+     * An observable list that counts its listeners.
+     */
+    private static final class CountingList extends ModifiableObservableListBase<String> {
+
+        private final List<String> items = new ArrayList<>();
+        private int listenerCount;
+
+        int getListenerCount() {
+            return listenerCount;
+        }
+
+        @Override public void addListener( ListChangeListener<? super String> listener ) {
+            listenerCount++;
+            super.addListener(listener);
+        }
+
+        @Override public void removeListener( ListChangeListener<? super String> listener ) {
+            listenerCount--;
+            super.removeListener(listener);
+        }
+
+        @Override public void addListener( InvalidationListener listener ) {
+            listenerCount++;
+            super.addListener(listener);
+        }
+
+        @Override public void removeListener( InvalidationListener listener ) {
+            listenerCount--;
+            super.removeListener(listener);
+        }
+
+        @Override public String get( int index ) {
+            return items.get(index);
+        }
+
+        @Override public int size() {
+            return items.size();
+        }
+
+        @Override protected void doAdd( int index, String element ) {
+            items.add(index, element);
+        }
+
+        @Override protected String doSet( int index, String element ) {
+            return items.set(index, element);
+        }
+
+        @Override protected String doRemove( int index ) {
+            return items.remove(index);
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.github.rjwestman.paginatedTiles;
+
+import javafx.collections.ObservableList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the skin reacts to item list changes of different list sizes, for single changes
+ * on and off the current page and for bulk changes with and without a batch update.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = {
+        "-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw", "-Djava.awt.headless=true" })
+public class ListChangeBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int itemCount;
+
+    @Param({"5"})
+    public int cellComplexity;
+
+    private static final int BULK_SIZE = 1000;
+
+    private PaginatedTiles<String> paginatedTiles;
+    private ObservableList<String> itemList;
+    private List<String> bulkItems;
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        FxBenchmarkSupport.startToolkit();
+        paginatedTiles = FxBenchmarkSupport.callOnFx( () ->
+                FxBenchmarkSupport.createControl(itemCount, 40, cellComplexity, 800, 600) );
+        FxBenchmarkSupport.settle(paginatedTiles);
+        itemList = paginatedTiles.getItemList();
+        bulkItems = new ArrayList<>();
+        for ( int i = 0; i < BULK_SIZE; i++ ) {
+            bulkItems.add("Bulk " + i);
+        }
+    }
+
+    /**
+     * Replaces an item on the current page.
+     */
+    @Benchmark
+    public void singleSetOnPage() throws Exception {
+        FxBenchmarkSupport.runOnFx( () -> {
+            itemList.set(0, "Changed " + counter++);
+            FxBenchmarkSupport.layout(paginatedTiles);
+        });
+    }
+
+    /**
+     * Replaces the last item, which is not on the current page.
+     */
+    @Benchmark
+    public void singleSetOffPage() throws Exception {
+        FxBenchmarkSupport.runOnFx( () -> {
+            itemList.set(itemList.size() - 1, "Changed " + counter++);
+            FxBenchmarkSupport.layout(paginatedTiles);
+        });
+    }
+
+    /**
+     * Inserts an item in front of the current page and removes it again.
+     */
+    @Benchmark
+    public void singleInsertRemove() throws Exception {
+        FxBenchmarkSupport.runOnFx( () -> {
+            itemList.add(0, "Inserted " + counter++);
+            FxBenchmarkSupport.layout(paginatedTiles);
+            itemList.remove(0);
+            FxBenchmarkSupport.layout(paginatedTiles);
+        });
+    }
+
+    /**
+     * Appends a chunk of items and removes it again, one change per step.
+     */
+    @Benchmark
+    public void bulkAppendRemove() throws Exception {
+        FxBenchmarkSupport.runOnFx(this::appendAndRemoveBulk);
+        FxBenchmarkSupport.settle(paginatedTiles);
+    }
+
+    /**
+     * Appends a chunk of items and removes it again within one batch update.
+     */
+    @Benchmark
+    public void bulkAppendRemoveBatched() throws Exception {
+        FxBenchmarkSupport.runOnFx( () -> paginatedTiles.runBatched(this::appendAndRemoveBulk) );
+        FxBenchmarkSupport.settle(paginatedTiles);
+    }
+
+    private void appendAndRemoveBulk() {
+        for ( String item : bulkItems ) {
+            itemList.add(item);
+        }
+        itemList.remove(itemList.size() - BULK_SIZE, itemList.size());
+        FxBenchmarkSupport.layout(paginatedTiles);
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.github.rjwestman.paginatedTiles;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building pages: the end-to-end latency of a page switch (pageFactory, fillPage, css and layout
+ * of the new page) for different tile counts and cell complexities. The switches bypass the coalescing of
+ * navigation requests, which would otherwise swallow every switch within its settle delay.
+ *
+ * <p>
+ * The control is 800x600, so the tile sizes 100, 40 and 20 give roughly 35, 250 and 1000 tiles per page.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = {
+        "-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw", "-Djava.awt.headless=true" })
+public class PageBuildBenchmark {
+
+    @Param({"100", "40", "20"})
+    public double tileSize;
+
+    @Param({"1", "5", "20"})
+    public int cellComplexity;
+
+    /** Less than the page count of the largest tile count, so the switches never run into the last page */
+    private static final int SWITCHES_PER_DIRECTION = 50;
+
+    private PaginatedTiles<String> paginatedTiles;
+    private PaginatedTilesSkin<String> skin;
+    private int switches;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() throws Exception {
+        FxBenchmarkSupport.startToolkit();
+        paginatedTiles = FxBenchmarkSupport.callOnFx( () ->
+                FxBenchmarkSupport.createControl(100_000, tileSize, cellComplexity, 800, 600) );
+        FxBenchmarkSupport.settle(paginatedTiles);
+        skin = (PaginatedTilesSkin<String>) paginatedTiles.getSkin();
+    }
+
+    /**
+     * Moves to a page that was not shown right before and lays it out. Goes forward and backward
+     * through the pages in turns, so every switch builds a page.
+     */
+    @Benchmark
+    public void pageSwitch() throws Exception {
+        boolean forward = (switches++ / SWITCHES_PER_DIRECTION) % 2 == 0;
+        FxBenchmarkSupport.runOnFx( () -> {
+            skin.selectBy(forward ? 1 : -1, true);
+            FxBenchmarkSupport.layout(paginatedTiles);
+        });
+    }
+
+    /**
+     * Moves back and forth between two pages, which is served from recycled cells.
+     */
+    @Benchmark
+    public void pageSwitchBackAndForth() throws Exception {
+        FxBenchmarkSupport.runOnFx( () -> {
+            skin.selectBy(1, true);
+            FxBenchmarkSupport.layout(paginatedTiles);
+            skin.selectBy(-1, true);
+            FxBenchmarkSupport.layout(paginatedTiles);
+        });
+    }
+
+}
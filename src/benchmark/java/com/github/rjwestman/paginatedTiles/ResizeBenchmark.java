@@ -0,0 +1,62 @@
+package com.github.rjwestman.paginatedTiles;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures resizing the control, once with a size change that keeps the tiles per page and page count,
+ * once with a size change that changes both and therefore rebuilds the page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = {
+        "-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw", "-Djava.awt.headless=true" })
+public class ResizeBenchmark {
+
+    @Param({"40"})
+    public double tileSize;
+
+    @Param({"1", "5", "20"})
+    public int cellComplexity;
+
+    private PaginatedTiles<String> paginatedTiles;
+    private boolean toggle;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        FxBenchmarkSupport.startToolkit();
+        paginatedTiles = FxBenchmarkSupport.callOnFx( () ->
+                FxBenchmarkSupport.createControl(100_000, tileSize, cellComplexity, 800, 600) );
+        FxBenchmarkSupport.settle(paginatedTiles);
+    }
+
+    /**
+     * Resizes by one pixel, the tiles per page stay the same.
+     */
+    @Benchmark
+    public void resizeWithoutPageCountChange() throws Exception {
+        resize(toggle ? 800 : 801, 600);
+    }
+
+    /**
+     * Resizes between two sizes with different tiles per page and page counts.
+     */
+    @Benchmark
+    public void resizeWithPageCountChange() throws Exception {
+        resize(toggle ? 800 : 500, toggle ? 600 : 400);
+    }
+
+    private void resize( double width, double height ) throws Exception {
+        toggle = !toggle;
+        FxBenchmarkSupport.runOnFx( () -> {
+            paginatedTiles.resize(width, height);
+            FxBenchmarkSupport.layout(paginatedTiles);
+        });
+        FxBenchmarkSupport.settle(paginatedTiles);
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.github.rjwestman.paginatedTiles;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder events emitted by the skin of the PaginatedTiles control.
+ * They cost next to nothing while no recording with these events enabled is running.
+ * Loaded reflectively by {@link PaginatedTilesEvents#get()}, only if the runtime supports JFR.
+ */
+final class JfrPaginatedTilesEvents extends PaginatedTilesEvents {
+
+    JfrPaginatedTilesEvents() {
+    }
+
+    @Override Object beginPageFactory() {
+        PageFactoryEvent event = new PageFactoryEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override void commitPageFactory( Object handle, int pageIndex, int tilesPerPage, boolean prefetched, String cause ) {
+        PageFactoryEvent event = (PageFactoryEvent) handle;
+        if ( event.shouldCommit() ) {
+            event.pageIndex = pageIndex;
+            event.tilesPerPage = tilesPerPage;
+            event.prefetched = prefetched;
+            event.cause = cause;
+            event.commit();
+        }
+    }
+
+    @Override Object beginResize() {
+        ResizeEvent event = new ResizeEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override void commitResize( Object handle, int oldTilesPerPage, int newTilesPerPage, int pageCount ) {
+        ResizeEvent event = (ResizeEvent) handle;
+        if ( event.shouldCommit() ) {
+            event.oldTilesPerPage = oldTilesPerPage;
+            event.newTilesPerPage = newTilesPerPage;
+            event.pageCount = pageCount;
+            event.commit();
+        }
+    }
+
+    @Override Object beginListChange() {
+        ListChangeEvent event = new ListChangeEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override void commitListChange( Object handle, int itemCount, int changeFrom, boolean pageAffected, boolean batched ) {
+        ListChangeEvent event = (ListChangeEvent) handle;
+        if ( event.shouldCommit() ) {
+            event.itemCount = itemCount;
+            event.changeFrom = changeFrom;
+            event.pageAffected = pageAffected;
+            event.batched = batched;
+            event.commit();
+        }
+    }
+
+    @Name("com.github.rjwestman.paginatedTiles.PageFactory")
+    @Label("Page Factory")
+    @Description("A page was requested by the Pagination of a PaginatedTiles control")
+    @Category({"JavaFX", "PaginatedTiles"})
+    @StackTrace(false)
+    static final class PageFactoryEvent extends Event {
+        @Label("Page Index")
+        int pageIndex;
+
+        @Label("Tiles Per Page")
+        int tilesPerPage;
+
+        @Label("Prefetched")
+        @Description("Whether the page was built ahead of time")
+        boolean prefetched;
+
+        @Label("Cause")
+        String cause;
+    }
+
+    @Name("com.github.rjwestman.paginatedTiles.Resize")
+    @Label("Resize")
+    @Description("The tiles per page and page count of a PaginatedTiles control were recalculated")
+    @Category({"JavaFX", "PaginatedTiles"})
+    @StackTrace(false)
+    static final class ResizeEvent extends Event {
+        @Label("Old Tiles Per Page")
+        int oldTilesPerPage;
+
+        @Label("New Tiles Per Page")
+        int newTilesPerPage;
+
+        @Label("Page Count")
+        int pageCount;
+    }
+
+    @Name("com.github.rjwestman.paginatedTiles.ListChange")
+    @Label("List Change")
+    @Description("A change of the item list of a PaginatedTiles control was handled")
+    @Category({"JavaFX", "PaginatedTiles"})
+    @StackTrace(false)
+    static final class ListChangeEvent extends Event {
+        @Label("Item Count")
+        int itemCount;
+
+        @Label("First Changed Index")
+        int changeFrom;
+
+        @Label("Page Affected")
+        boolean pageAffected;
+
+        @Label("Batched")
+        @Description("Whether the change was collected for a batch update")
+        boolean batched;
+    }
+
+}
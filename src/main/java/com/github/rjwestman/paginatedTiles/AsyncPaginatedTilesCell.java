@@ -0,0 +1,170 @@
+package com.github.rjwestman.paginatedTiles;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A tile cell that binds its data item in two phases: {@link #prepareCell(Object) prepareCell} runs on the
+ * background executor of the control and turns the data item into a view model (e.g. decoded images or
+ * formatted text), {@link #applyCell(Object, Object) applyCell} then pushes the view model into the nodes
+ * on the JavaFX Application Thread.
+ *
+ * <p>
+ * While the view model is prepared the cell is in its pending state (see {@link #updatePending()}).
+ * The preparation is cancelled if the cell is rebound or taken off the page before it finished: a preparation
+ * that did not start yet is skipped, a running one is interrupted and can poll the cancellation signal
+ * passed to {@link #prepareCell(Object, BooleanSupplier)}.
+ * </p>
+ *
+ * @param <T> The class type that specifies that data that is visualised by this cell.
+ * @param <M> The class type of the view model prepared for this cell.
+ */
+public abstract class AsyncPaginatedTilesCell<T, M> extends PaginatedTilesCell<T> {
+
+    /**
+     * Create the objects needed for the tile cell.
+     */
+    public AsyncPaginatedTilesCell() {
+    }
+
+    private FutureTask<M> preparation;
+
+    /**
+     * Prepares the view model for a data item. Runs on a background thread,
+     * so it must not access the nodes of the cell.
+     *
+     * @param item the data item that is represented by this cell.
+     * @return the view model for the data item.
+     */
+    protected abstract M prepareCell(T item);
+
+    /**
+     * Prepares the view model for a data item, see {@link #prepareCell(Object)}. Override this instead, if the
+     * preparation takes long enough to be worth stopping once the cell no longer needs it.
+     * Calls {@link #prepareCell(Object)} by default.
+     *
+     * @param item the data item that is represented by this cell.
+     * @param cancelled returns true, once the preparation was cancelled and its result is not used anymore.
+     * @return the view model for the data item.
+     */
+    protected M prepareCell(T item, BooleanSupplier cancelled) {
+        return prepareCell(item);
+    }
+
+    /**
+     * Pushes a prepared view model into the nodes of the cell. Runs on the JavaFX Application Thread.
+     *
+     * @param item the data item that is represented by this cell.
+     * @param model the view model that was prepared for the data item.
+     */
+    protected abstract void applyCell(T item, M model);
+
+    /**
+     * Prepares and applies the view model on the calling thread.
+     *
+     * @param item the data item that is represented by this cell.
+     */
+    @Override
+    public void updateCell(T item) {
+        applyCell(item, prepareCell(item, () -> false));
+    }
+
+    /**
+     * Binds the cell to a data item, preparing the view model on the executor.
+     *
+     * @param item the data item that is represented by this cell.
+     * @param executor the executor the view model is prepared on.
+     */
+    @Override
+    void bindItem(T item, Executor executor) {
+        cancelPreparation();
+        setItem(item);
+        setSkeleton(false);
+        setPending(true);
+        updatePending();
+        prepare(item, executor);
+    }
+
+    /**
+     * Prepares the view model for the changed data item on the executor. The cell keeps showing the previous
+     * view model until the new one is applied, it does not go back into its pending state.
+     *
+     * @param executor the executor the view model is prepared on.
+     */
+    @Override
+    void refreshItem(Executor executor) {
+        if ( getItem() == null || isSkeleton() ) {
+            return;
+        }
+        // A preparation that is still running is for the previous state of the item
+        cancelPreparation();
+        prepare(getItem(), executor);
+    }
+
+    /**
+     * Prepares the view model on the executor and applies it once it is ready, unless the cell was rebound.
+     */
+    private void prepare(T item, Executor executor) {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        FutureTask<M> preparation = new FutureTask<M>( () -> prepareCell(item, cancelled::get) ) {
+            @Override public boolean cancel(boolean mayInterruptIfRunning) {
+                cancelled.set(true);
+                return super.cancel(mayInterruptIfRunning);
+            }
+
+            @Override protected void done() {
+                if ( !isCancelled() ) {
+                    Platform.runLater( () -> onPrepared(this, item) );
+                }
+            }
+        };
+        this.preparation = preparation;
+        executor.execute(preparation);
+    }
+
+    /**
+     * Applies a finished preparation, unless the cell was rebound or released in the meantime.
+     */
+    private void onPrepared(FutureTask<M> preparation, T item) {
+        if ( this.preparation != preparation || preparation.isCancelled() ) {
+            return;
+        }
+        this.preparation = null;
+        M model;
+        try {
+            model = preparation.get();
+        } catch ( ExecutionException e ) {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e.getCause());
+            return;
+        } catch ( InterruptedException e ) {
+            // Not possible, the preparation is done
+            Thread.currentThread().interrupt();
+            return;
+        }
+        setPending(false);
+        applyCell(item, model);
+    }
+
+    @Override
+    void unbindItem() {
+        cancelPreparation();
+        super.unbindItem();
+    }
+
+    /**
+     * Cancels the preparation of the view model, if there is one running.
+     */
+    private void cancelPreparation() {
+        if ( preparation != null ) {
+            preparation.cancel(true);
+            preparation = null;
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.github.rjwestman.paginatedTiles;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides the default executor for the background work of PaginatedTiles controls.
+ * Virtual threads are used if the runtime supports them, otherwise a pool of as many daemon threads as there
+ * are processors. The pool is bounded, so tasks of cells that are taken off the page before their task
+ * started are dropped from its queue instead of each starting a thread of its own.
+ */
+final class BackgroundExecutors {
+
+    private BackgroundExecutors() {
+    }
+
+    private static final Executor DEFAULT_EXECUTOR = createDefaultExecutor();
+
+    /**
+     * @return the executor shared by all PaginatedTiles controls that have no executor of their own.
+     */
+    static Executor getDefault() {
+        return DEFAULT_EXECUTOR;
+    }
+
+    private static Executor createDefaultExecutor() {
+        try {
+            // Only available from Java 21 on
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            int threads = Runtime.getRuntime().availableProcessors();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), new DaemonThreadFactory());
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "PaginatedTiles-Background-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
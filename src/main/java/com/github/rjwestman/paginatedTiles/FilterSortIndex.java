@@ -0,0 +1,589 @@
+package com.github.rjwestman.paginatedTiles;
+
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Maps the positions shown by the skin to indices of the item list, according to the filter and comparator of
+ * the control. The mapping is an int array computed on the background executor from a snapshot of the item list,
+ * in parallel for large lists. A finished computation replaces the mapping at once on the JavaFX Application
+ * Thread; a computation that is superseded by a newer one is cancelled.
+ *
+ * <p>
+ * The mapping always refers to the current item list: insertions, removals and permutations of the item list are
+ * applied to it right away, so only the added items are filtered and sorted into it and the indices behind the
+ * changes are shifted. Updated items (of a list with an extractor) are taken out and filtered and sorted in again.
+ * Changes that happen while a computation runs are recorded and applied to its result the same way before it is
+ * swapped in, so list changes never have to start or cancel a computation of their own.
+ * </p>
+ *
+ * <p>
+ * The snapshot is the only part of a computation that runs on the JavaFX Application Thread, because an
+ * observable list must not be read from other threads: it copies the item references into an array (one array
+ * copy, no per-item objects). Sorting works on the int indices directly, without boxing them.
+ * </p>
+ *
+ * @param <T> The class type of the data items.
+ */
+final class FilterSortIndex<T> {
+
+    /** Lists with at least this many items are filtered and sorted in parallel */
+    private static final int PARALLEL_THRESHOLD = 10_000;
+
+    private final Runnable onIndexChange;
+    /** The shown positions, or null if neither filter nor comparator are set */
+    private IndexMapping<T> mapping;
+    /** Shown position for every index of the item list (-1 if filtered out), computed on demand */
+    private int[] positions;
+    private CompletableFuture<int[]> computation;
+    /** The item list changes since the snapshot of the running computation, applied to its result */
+    private List<List<SubChange<T>>> changesSinceSnapshot;
+
+    /**
+     * @param onIndexChange called on the JavaFX Application Thread when a new mapping was swapped in
+     */
+    FilterSortIndex( Runnable onIndexChange ) {
+        this.onIndexChange = onIndexChange;
+    }
+
+    /**
+     * @return true, if the shown positions are mapped, i.e. a filter or comparator is in use.
+     */
+    boolean isActive() {
+        return mapping != null;
+    }
+
+    /**
+     * @return true, while a new mapping is computed
+     */
+    boolean isComputing() {
+        return computation != null;
+    }
+
+    /**
+     * @param itemList the item list
+     * @return the number of shown items
+     */
+    int size( List<T> itemList ) {
+        return mapping != null ? mapping.size : itemList.size();
+    }
+
+    /**
+     * @param itemList the item list
+     * @param position the shown position
+     * @return the item at the given shown position
+     */
+    T get( List<T> itemList, int position ) {
+        return itemList.get(indexAt(position));
+    }
+
+    /**
+     * Returns the item list index of a shown position.
+     *
+     * @param position the shown position
+     * @return the index in the item list or -1, if there is no such position
+     */
+    int indexAt( int position ) {
+        if ( mapping == null ) {
+            return position;
+        }
+        return position >= 0 && position < mapping.size ? mapping.indices[position] : -1;
+    }
+
+    /**
+     * Returns the shown position of an item list index.
+     *
+     * @param index the index in the item list
+     * @return the shown position or -1, if the item does not pass the filter
+     */
+    int positionOf( int index ) {
+        if ( mapping == null ) {
+            return index;
+        }
+        if ( positions == null ) {
+            int length = 0;
+            for ( int position = 0; position < mapping.size; position++ ) {
+                length = Math.max(length, mapping.indices[position] + 1);
+            }
+            positions = new int[length];
+            Arrays.fill(positions, -1);
+            for ( int position = 0; position < mapping.size; position++ ) {
+                positions[mapping.indices[position]] = position;
+            }
+        }
+        return index >= 0 && index < positions.length ? positions[index] : -1;
+    }
+
+    /**
+     * Applies an insertion, removal, permutation or update of the item list to the mapping, and records it for the
+     * running computation.
+     *
+     * <p>
+     * If at least PARALLEL_THRESHOLD items were added, e.g. when the item list was replaced, they are not filtered
+     * and sorted on the calling thread: the mapping only drops the removed items and shifts the others, and the
+     * caller has to start a new computation that adds them.
+     * </p>
+     *
+     * @param change the change of the item list
+     * @return true, if a new computation is needed for the added items
+     */
+    boolean onListChange( ListChangeListener.Change<? extends T> change ) {
+        if ( mapping == null && computation == null ) {
+            return false;
+        }
+        List<SubChange<T>> subChanges = SubChange.of(change, computation != null);
+        int addedCount = 0;
+        for ( SubChange<T> subChange : subChanges ) {
+            addedCount += subChange.addedSize;
+        }
+        boolean recompute = addedCount >= PARALLEL_THRESHOLD;
+        if ( mapping != null && !subChanges.isEmpty() ) {
+            mapping.apply(subChanges, change.getList(), !recompute);
+            positions = null;
+        }
+        if ( computation != null ) {
+            changesSinceSnapshot.add(subChanges);
+        }
+        return recompute;
+    }
+
+    /**
+     * Starts computing the mapping for the current item list, filter and comparator.
+     * Without filter and comparator the mapping is dropped right away.
+     *
+     * @param itemList the item list, a snapshot of it is taken on the calling thread
+     * @param filter the filter, may be null
+     * @param comparator the comparator, may be null
+     * @param executor the executor the mapping is computed on
+     */
+    void update( List<T> itemList, Predicate<? super T> filter, Comparator<? super T> comparator, Executor executor ) {
+        cancel();
+        if ( filter == null && comparator == null ) {
+            if ( mapping != null ) {
+                mapping = null;
+                positions = null;
+                onIndexChange.run();
+            }
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        T[] items = (T[]) itemList.toArray();
+        CompletableFuture<int[]> computation = new CompletableFuture<>();
+        List<List<SubChange<T>>> changes = new ArrayList<>();
+        this.computation = computation;
+        changesSinceSnapshot = changes;
+
+        executor.execute( () -> {
+            if ( computation.isDone() ) {
+                // Cancelled before it started
+                return;
+            }
+            try {
+                computation.complete(computeIndices(items, filter, comparator, computation::isCancelled));
+            } catch ( CancellationException e ) {
+                computation.cancel(false);
+            } catch ( RuntimeException e ) {
+                computation.completeExceptionally(e);
+            }
+        });
+
+        computation.whenComplete( (result, error) -> Platform.runLater( () -> {
+            if ( this.computation != computation || computation.isCancelled() ) {
+                // Superseded by a newer computation
+                return;
+            }
+            this.computation = null;
+            changesSinceSnapshot = null;
+            if ( error != null ) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, error);
+            } else {
+                IndexMapping<T> mapping = new IndexMapping<>(result, filter, comparator);
+                if ( !changes.isEmpty() ) {
+                    // Bring the result from the snapshot to the current item list, change by change
+                    List<T> list = new ArrayList<>(Arrays.asList(items));
+                    for ( List<SubChange<T>> subChanges : changes ) {
+                        for ( SubChange<T> subChange : subChanges ) {
+                            subChange.applyTo(list);
+                        }
+                        mapping.apply(subChanges, list, true);
+                    }
+                }
+                this.mapping = mapping;
+                positions = null;
+                onIndexChange.run();
+            }
+        }));
+    }
+
+    /**
+     * Cancels the running computation, if there is one.
+     */
+    void cancel() {
+        if ( computation != null ) {
+            computation.cancel(false);
+            computation = null;
+            changesSinceSnapshot = null;
+        }
+    }
+
+    /**
+     * Filters and sorts the items, returning the indices of the remaining items in sort order.
+     *
+     * @throws CancellationException if the computation was cancelled
+     */
+    private static <T> int[] computeIndices( T[] items, Predicate<? super T> filter, Comparator<? super T> comparator,
+                                             BooleanSupplier cancelled ) {
+        IntStream positions = IntStream.range(0, items.length);
+        if ( items.length >= PARALLEL_THRESHOLD ) {
+            positions = positions.parallel();
+        }
+        if ( filter != null ) {
+            positions = positions.filter( i -> {
+                checkCancelled(cancelled);
+                return filter.test(items[i]);
+            });
+        }
+
+        if ( comparator == null ) {
+            return positions.toArray();
+        }
+
+        // Sort the int indices themselves, boxing them would create an object per shown item
+        int[] indices = positions.toArray();
+        IndexSort<T> sort = new IndexSort<>(indices, new int[indices.length], 0, indices.length, Arrays.asList(items),
+                comparator, cancelled);
+        if ( indices.length >= PARALLEL_THRESHOLD ) {
+            ForkJoinPool.commonPool().invoke(sort);
+        } else {
+            sort.compute();
+        }
+        return indices;
+    }
+
+    private static void checkCancelled( BooleanSupplier cancelled ) {
+        if ( cancelled.getAsBoolean() ) {
+            throw new CancellationException();
+        }
+    }
+
+    /**
+     * A stable merge sort of item indices by the comparator of their items. Ranges of at least
+     * PARALLEL_THRESHOLD indices are split into two tasks that are sorted in parallel.
+     */
+    private static final class IndexSort<T> extends RecursiveAction {
+
+        /** Ranges up to this size are sorted by insertion */
+        private static final int INSERTION_THRESHOLD = 32;
+
+        private final int[] indices;
+        private final int[] buffer;
+        private final int from;
+        private final int to;
+        private final List<? extends T> items;
+        private final Comparator<? super T> comparator;
+        private final BooleanSupplier cancelled;
+
+        IndexSort( int[] indices, int[] buffer, int from, int to, List<? extends T> items,
+                   Comparator<? super T> comparator, BooleanSupplier cancelled ) {
+            this.indices = indices;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.items = items;
+            this.comparator = comparator;
+            this.cancelled = cancelled;
+        }
+
+        @Override protected void compute() {
+            if ( to - from <= INSERTION_THRESHOLD ) {
+                insertionSort();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            IndexSort<T> left = new IndexSort<>(indices, buffer, from, middle, items, comparator, cancelled);
+            IndexSort<T> right = new IndexSort<>(indices, buffer, middle, to, items, comparator, cancelled);
+            if ( to - from >= PARALLEL_THRESHOLD && getPool() != null ) {
+                invokeAll(left, right);
+            } else {
+                left.compute();
+                right.compute();
+            }
+            merge(middle);
+        }
+
+        private void insertionSort() {
+            for ( int i = from + 1; i < to; i++ ) {
+                int index = indices[i];
+                int j = i - 1;
+                while ( j >= from && compare(indices[j], index) > 0 ) {
+                    indices[j + 1] = indices[j];
+                    j--;
+                }
+                indices[j + 1] = index;
+            }
+        }
+
+        /**
+         * Merges the sorted ranges [from, middle) and [middle, to), taking from the left range on ties.
+         */
+        private void merge( int middle ) {
+            if ( compare(indices[middle - 1], indices[middle]) <= 0 ) {
+                // Already in order
+                return;
+            }
+            System.arraycopy(indices, from, buffer, from, to - from);
+            int left = from;
+            int right = middle;
+            for ( int i = from; i < to; i++ ) {
+                if ( right >= to || (left < middle && compare(buffer[left], buffer[right]) <= 0) ) {
+                    indices[i] = buffer[left++];
+                } else {
+                    indices[i] = buffer[right++];
+                }
+            }
+        }
+
+        private int compare( int a, int b ) {
+            checkCancelled(cancelled);
+            return comparator.compare(items.get(a), items.get(b));
+        }
+    }
+
+    /**
+     * The shown positions for one filter and comparator: the item list indices in shown order, in an array that
+     * grows like an ArrayList. Without comparator the indices are in ascending order.
+     */
+    private static final class IndexMapping<T> {
+
+        private final Predicate<? super T> filter;
+        private final Comparator<? super T> comparator;
+        private int[] indices;
+        private int size;
+
+        IndexMapping( int[] indices, Predicate<? super T> filter, Comparator<? super T> comparator ) {
+            this.indices = indices;
+            this.size = indices.length;
+            this.filter = filter;
+            this.comparator = comparator;
+        }
+
+        /**
+         * Applies the sub-changes of one item list change: shifts the indices behind each change, drops the removed
+         * ones and merges the added items that pass the filter, in sort order. Updated items are dropped and merged
+         * again like added ones.
+         *
+         * @param subChanges the sub-changes, in the order of the change
+         * @param list the item list after the change
+         * @param addItems false to leave the added items out
+         */
+        void apply( List<SubChange<T>> subChanges, List<? extends T> list, boolean addItems ) {
+            boolean permutated = false;
+            int addedCount = 0;
+            BitSet updated = null;
+            for ( SubChange<T> subChange : subChanges ) {
+                if ( subChange.permutation != null ) {
+                    permute(subChange.from, subChange.permutation);
+                    permutated = true;
+                } else if ( subChange.updatedSize > 0 ) {
+                    if ( updated == null ) {
+                        updated = new BitSet();
+                    }
+                    updated.set(subChange.from, subChange.from + subChange.updatedSize);
+                    addedCount += subChange.updatedSize;
+                } else {
+                    shift(subChange.from, subChange.removedSize, subChange.addedSize);
+                    addedCount += subChange.addedSize;
+                }
+            }
+            if ( permutated && comparator == null ) {
+                Arrays.sort(indices, 0, size);
+            }
+            if ( updated != null ) {
+                drop(updated);
+            }
+            if ( (addItems || updated != null) && addedCount > 0 ) {
+                // The added ranges are in the coordinates of the final list, as the sub-changes are ascending
+                int[] added = new int[addedCount];
+                int count = 0;
+                for ( SubChange<T> subChange : subChanges ) {
+                    int to = subChange.from + (addItems ? subChange.addedSize : 0) + subChange.updatedSize;
+                    for ( int index = subChange.from; index < to; index++ ) {
+                        if ( filter == null || filter.test(list.get(index)) ) {
+                            added[count++] = index;
+                        }
+                    }
+                }
+                if ( comparator != null && count > 1 ) {
+                    new IndexSort<>(added, new int[count], 0, count, list, comparator, () -> false).compute();
+                }
+                merge(added, count, list);
+            }
+        }
+
+        private void permute( int from, int[] permutation ) {
+            for ( int position = 0; position < size; position++ ) {
+                int index = indices[position];
+                if ( index >= from && index < from + permutation.length ) {
+                    indices[position] = permutation[index - from];
+                }
+            }
+        }
+
+        /**
+         * Drops the indices of updated items, they are tested again.
+         */
+        private void drop( BitSet updated ) {
+            // Without comparator only the tail from the first updated index on has to be looked at
+            int write = comparator == null ? firstPositionFrom(updated.nextSetBit(0)) : 0;
+            for ( int read = write; read < size; read++ ) {
+                if ( !updated.get(indices[read]) ) {
+                    indices[write++] = indices[read];
+                }
+            }
+            size = write;
+        }
+
+        /**
+         * Drops the indices of removed items and moves the indices behind them by the size difference.
+         */
+        private void shift( int from, int removedSize, int addedSize ) {
+            int removedTo = from + removedSize;
+            int delta = addedSize - removedSize;
+            // Without comparator only the tail from the first changed index on has to be looked at
+            int write = comparator == null ? firstPositionFrom(from) : 0;
+            for ( int read = write; read < size; read++ ) {
+                int index = indices[read];
+                if ( index >= removedTo ) {
+                    indices[write++] = index + delta;
+                } else if ( index < from ) {
+                    indices[write++] = index;
+                }
+            }
+            size = write;
+        }
+
+        /**
+         * Merges the sorted added indices into the shown positions, from the back, so the positions in front of
+         * the first added item are not touched.
+         */
+        private void merge( int[] added, int count, List<? extends T> list ) {
+            if ( indices.length < size + count ) {
+                indices = Arrays.copyOf(indices, Math.max(size + count, indices.length + (indices.length >> 1)));
+            }
+            int read = size - 1;
+            int write = size + count - 1;
+            int next = count - 1;
+            while ( next >= 0 ) {
+                if ( read >= 0 && isAfter(indices[read], added[next], list) ) {
+                    indices[write--] = indices[read--];
+                } else {
+                    indices[write--] = added[next--];
+                }
+            }
+            size += count;
+        }
+
+        private boolean isAfter( int a, int b, List<? extends T> list ) {
+            if ( comparator != null ) {
+                int result = comparator.compare(list.get(a), list.get(b));
+                if ( result != 0 ) {
+                    return result > 0;
+                }
+            }
+            return a > b;
+        }
+
+        /**
+         * @return the first position whose index is at least the given one, for ascending indices
+         */
+        private int firstPositionFrom( int index ) {
+            int low = 0;
+            int high = size;
+            while ( low < high ) {
+                int middle = (low + high) >>> 1;
+                if ( indices[middle] < index ) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * One insertion, removal, permutation or update of an item list change. The added items are only copied while
+     * a computation runs, to replay the change on the snapshot of the computation.
+     */
+    private static final class SubChange<T> {
+
+        private final int from;
+        private final int removedSize;
+        private final int addedSize;
+        private final int updatedSize;
+        /** The new index of every index in [from, from + permutation.length), or null */
+        private final int[] permutation;
+        private final List<T> added;
+
+        private SubChange( int from, int removedSize, int addedSize, int updatedSize, int[] permutation, List<T> added ) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.addedSize = addedSize;
+            this.updatedSize = updatedSize;
+            this.permutation = permutation;
+            this.added = added;
+        }
+
+        static <T> List<SubChange<T>> of( ListChangeListener.Change<? extends T> change, boolean copyAdded ) {
+            List<SubChange<T>> subChanges = new ArrayList<>();
+            while ( change.next() ) {
+                if ( change.wasPermutated() ) {
+                    int[] permutation = new int[change.getTo() - change.getFrom()];
+                    for ( int i = 0; i < permutation.length; i++ ) {
+                        permutation[i] = change.getPermutation(change.getFrom() + i);
+                    }
+                    subChanges.add(new SubChange<>(change.getFrom(), 0, 0, 0, permutation, null));
+                } else if ( change.wasUpdated() ) {
+                    subChanges.add(new SubChange<>(change.getFrom(), 0, 0, change.getTo() - change.getFrom(), null, null));
+                } else {
+                    subChanges.add(new SubChange<>(change.getFrom(), change.getRemovedSize(), change.getAddedSize(),
+                            0, null, copyAdded ? new ArrayList<>(change.getAddedSubList()) : null));
+                }
+            }
+            change.reset();
+            return subChanges;
+        }
+
+        /**
+         * Applies this sub-change to a copy of the item list.
+         */
+        void applyTo( List<T> list ) {
+            if ( permutation != null ) {
+                List<T> permutated = new ArrayList<>(list.subList(from, from + permutation.length));
+                for ( int i = 0; i < permutation.length; i++ ) {
+                    list.set(permutation[i], permutated.get(i));
+                }
+            } else if ( updatedSize == 0 ) {
+                list.subList(from, from + removedSize).clear();
+                list.addAll(from, added);
+            }
+        }
+    }
+
+}
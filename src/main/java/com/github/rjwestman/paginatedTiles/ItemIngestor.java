@@ -0,0 +1,124 @@
+package com.github.rjwestman.paginatedTiles;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+/**
+ * Collects items that are added from any thread and appends them to the item list on the JavaFX Application Thread.
+ * Producers only put the items into a lock-free queue. Once per pulse the queue is drained into the item list with
+ * a single addAll, i.e. one list change, of at most the budget of items; items above the budget wait for the next
+ * pulse. The pulse timer only runs while items are waiting.
+ *
+ * @param <T> The class type of the data items.
+ */
+final class ItemIngestor<T> {
+
+    private final PaginatedTiles<T> control;
+    private final IntSupplier budget;
+    private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+    /** The number of items in the queue, ConcurrentLinkedQueue.size() is not constant time */
+    private final AtomicInteger queueSize = new AtomicInteger();
+    /** Whether the drain timer runs or is about to be started */
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AnimationTimer drainTimer = new AnimationTimer() {
+        @Override public void handle(long now) {
+            drain();
+        }
+    };
+
+    /**
+     * @param control the control whose item list the items are appended to
+     * @param budget supplies the maximum number of items appended per pulse
+     */
+    ItemIngestor( PaginatedTiles<T> control, IntSupplier budget ) {
+        this.control = control;
+        this.budget = budget;
+    }
+
+    /**
+     * Queues an item for appending. May be called from any thread.
+     *
+     * @param item the item
+     * @throws NullPointerException if the item is null
+     */
+    void add( T item ) {
+        // Checked before counting, so a rejected item does not stay in the pending count
+        Objects.requireNonNull(item, "item");
+        queueSize.incrementAndGet();
+        queue.add(item);
+        startDraining();
+    }
+
+    /**
+     * Queues items for appending, in their iteration order. May be called from any thread.
+     *
+     * @param items the items
+     * @throws NullPointerException if one of the items is null, then none of them is queued
+     */
+    void addAll( Collection<? extends T> items ) {
+        // A copy, so the items that are checked and counted are the ones that are queued
+        List<T> batch = new ArrayList<>(items);
+        if ( batch.isEmpty() ) {
+            return;
+        }
+        for ( T item : batch ) {
+            Objects.requireNonNull(item, "item");
+        }
+        queueSize.addAndGet(batch.size());
+        queue.addAll(batch);
+        startDraining();
+    }
+
+    /**
+     * @return the number of items that wait to be appended
+     */
+    int getPendingCount() {
+        return queueSize.get();
+    }
+
+    private void startDraining() {
+        if ( draining.compareAndSet(false, true) ) {
+            if ( Platform.isFxApplicationThread() ) {
+                drainTimer.start();
+            } else {
+                Platform.runLater(drainTimer::start);
+            }
+        }
+    }
+
+    /**
+     * Appends up to the budget of queued items to the item list in one change. Stops the timer if the queue is empty.
+     */
+    private void drain() {
+        int limit = Math.max(1, budget.getAsInt());
+        List<T> batch = new ArrayList<>(Math.min(limit, queueSize.get()));
+        T item;
+        while ( batch.size() < limit && (item = queue.poll()) != null ) {
+            batch.add(item);
+        }
+        queueSize.addAndGet(-batch.size());
+        if ( !batch.isEmpty() ) {
+            control.getItemList().addAll(batch);
+        }
+
+        if ( queue.isEmpty() ) {
+            drainTimer.stop();
+            draining.set(false);
+            // An item may have been queued after the queue was found empty, but before draining was reset
+            if ( !queue.isEmpty() && draining.compareAndSet(false, true) ) {
+                drainTimer.start();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.github.rjwestman.paginatedTiles;
+
+import javafx.collections.ListChangeListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Maps data items to their index in the item list, so an item can be found without searching the list.
+ * The map is built on the first lookup and then kept up to date from the change events of the item list:
+ * added and removed items are put into or removed from the map right away, while index shifts caused by
+ * insertions or removals only mark the indices from the change on as outdated. Those are refreshed once,
+ * on the next lookup that needs them, so appending to the list never touches existing entries.
+ * Entries of removed items are dropped right away, also if their index is outdated, so the map only holds
+ * items of the list. Of equal items, the map holds the first one.
+ *
+ * @param <T> The class type of the data items.
+ */
+final class ItemPositionIndex<T> {
+
+    private final Map<T, Integer> positions = new HashMap<>();
+    private boolean built;
+    /** Indices from here on may be outdated, Integer.MAX_VALUE if all are up to date */
+    private int outdatedFrom = Integer.MAX_VALUE;
+
+    /**
+     * Updates the map from a change of the item list. Resets the change afterwards.
+     *
+     * @param change the change of the item list
+     */
+    void onListChange( ListChangeListener.Change<? extends T> change ) {
+        if ( !built ) {
+            return;
+        }
+        while ( change.next() ) {
+            int from = change.getFrom();
+            if ( change.wasPermutated() ) {
+                outdatedFrom = Math.min(outdatedFrom, from);
+            } else if ( !change.wasUpdated() ) {
+                if ( change.getAddedSize() != change.getRemovedSize() ) {
+                    // The items behind the change are shifted
+                    outdatedFrom = Math.min(outdatedFrom, from);
+                }
+                int removedIndex = from;
+                for ( T removed : change.getRemoved() ) {
+                    // Only an entry that points to an earlier equal item is known to be still correct
+                    Integer index = positions.get(removed);
+                    if ( index != null && index >= outdatedFrom ) {
+                        positions.remove(removed);
+                    } else if ( index != null && index == removedIndex ) {
+                        positions.remove(removed);
+                        // An equal item behind it has to be found again
+                        outdatedFrom = Math.min(outdatedFrom, removedIndex + 1);
+                    }
+                    removedIndex++;
+                }
+                int addedIndex = from;
+                for ( T added : change.getAddedSubList() ) {
+                    // The first of equal items wins
+                    Integer index = positions.get(added);
+                    if ( index == null || index >= outdatedFrom || index > addedIndex ) {
+                        positions.put(added, addedIndex);
+                    }
+                    addedIndex++;
+                }
+            }
+        }
+        change.reset();
+    }
+
+    /**
+     * Returns the index of an item in the item list.
+     *
+     * @param itemList the item list
+     * @param item the item to find
+     * @return the index of the item or -1, if the list does not contain it
+     */
+    int indexOf( List<T> itemList, T item ) {
+        if ( !built ) {
+            rebuild(itemList);
+        }
+
+        Integer index = positions.get(item);
+        if ( isValid(itemList, item, index) ) {
+            return index;
+        }
+
+        if ( outdatedFrom < itemList.size() ) {
+            refreshOutdated(itemList);
+            index = positions.get(item);
+            if ( isValid(itemList, item, index) ) {
+                return index;
+            }
+        }
+
+        if ( index != null ) {
+            // Only if the item list was changed without a change event, start over
+            rebuild(itemList);
+            index = positions.get(item);
+            if ( isValid(itemList, item, index) ) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Drops the map, it is built again on the next lookup.
+     */
+    void clear() {
+        positions.clear();
+        built = false;
+        outdatedFrom = Integer.MAX_VALUE;
+    }
+
+    private boolean isValid( List<T> itemList, T item, Integer index ) {
+        return index != null && index < outdatedFrom && index < itemList.size() && Objects.equals(itemList.get(index), item);
+    }
+
+    /**
+     * Puts the current index of every item from outdatedFrom on. Backwards, so the first of equal items wins,
+     * but entries that point to an equal item in front of outdatedFrom are kept.
+     */
+    private void refreshOutdated( List<T> itemList ) {
+        for ( int i = itemList.size() - 1; i >= outdatedFrom; i-- ) {
+            T item = itemList.get(i);
+            Integer index = positions.get(item);
+            if ( index == null || index >= outdatedFrom ) {
+                positions.put(item, i);
+            }
+        }
+        outdatedFrom = Integer.MAX_VALUE;
+    }
+
+    private void rebuild( List<T> itemList ) {
+        positions.clear();
+        // Backwards, so the first of equal items wins
+        for ( int i = itemList.size() - 1; i >= 0; i-- ) {
+            positions.put(itemList.get(i), i);
+        }
+        built = true;
+        outdatedFrom = Integer.MAX_VALUE;
+    }
+
+}
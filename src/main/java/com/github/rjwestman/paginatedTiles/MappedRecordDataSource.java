@@ -0,0 +1,217 @@
+package com.github.rjwestman.paginatedTiles;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A data source that reads its data items from a file of fixed-width records, which is mapped into memory.
+ * Records are only decoded when a page asks for them, so the heap holds the items of the shown pages only,
+ * no matter how many records the file has, and nothing has to be read up front.
+ *
+ * <p>
+ * The file consists of an optional header of a fixed size, followed by the records. Record <i>i</i> starts at
+ * {@code headerSize + i * recordSize}. How a record is turned into a data item is up to the {@link Decoder}.
+ * Optionally the most recently decoded items are kept in a small cache, so moving back and forth between
+ * pages does not decode the same records again.
+ * </p>
+ *
+ * <p>
+ * The file is mapped read-only when the data source is created. If the file grows or shrinks, call
+ * {@link #refresh()} on the JavaFX Application Thread to map it again and update the item count.
+ * </p>
+ *
+ * @param <T> The class type that specifies that data that is visualised by your tileCell.
+ */
+public class MappedRecordDataSource<T> implements PaginatedTilesDataSource<T> {
+
+    private final Path file;
+    private final long headerSize;
+    private final int recordSize;
+    private final Decoder<T> decoder;
+    private final int cacheSize;
+    private final Map<Integer, T> cache;
+
+    /** The records a mapped segment holds, a MappedByteBuffer cannot be larger than Integer.MAX_VALUE bytes */
+    private final int recordsPerSegment;
+    private volatile MappedByteBuffer[] segments;
+    private final ReadOnlyIntegerWrapper itemCount = new ReadOnlyIntegerWrapper(this, "itemCount");
+
+    /* **********************************************************************
+     *                                                                      *
+     * Constructors                                                         *
+     *                                                                      *
+     ***********************************************************************/
+
+    /**
+     * Creates a data source for a file without header and without caching decoded items.
+     *
+     * @param file the file holding the records
+     * @param recordSize the size of a record in bytes
+     * @param decoder the decoder that turns a record into a data item
+     * @throws IOException if the file cannot be mapped
+     */
+    public MappedRecordDataSource(Path file, int recordSize, Decoder<T> decoder) throws IOException {
+        this(file, 0, recordSize, decoder, 0);
+    }
+
+    /**
+     * Creates a data source for a file of fixed-width records.
+     *
+     * @param file the file holding the records
+     * @param headerSize the number of bytes in front of the first record
+     * @param recordSize the size of a record in bytes
+     * @param decoder the decoder that turns a record into a data item
+     * @param cacheSize the number of decoded items that are kept for reuse, 0 disables the cache
+     * @throws IOException if the file cannot be mapped
+     */
+    public MappedRecordDataSource(Path file, long headerSize, int recordSize, Decoder<T> decoder, int cacheSize) throws IOException {
+        if ( headerSize < 0 || recordSize <= 0 || cacheSize < 0 ) {
+            throw new IllegalArgumentException("Invalid header size, record size or cache size");
+        }
+        this.file = Objects.requireNonNull(file);
+        this.headerSize = headerSize;
+        this.recordSize = recordSize;
+        this.decoder = Objects.requireNonNull(decoder);
+        this.cacheSize = cacheSize;
+        this.cache = cacheSize > 0 ? new LinkedHashMap<>(16, 0.75f, true) : null;
+        this.recordsPerSegment = Integer.MAX_VALUE / recordSize;
+        map();
+    }
+
+    /* **********************************************************************
+     *                                                                      *
+     * Data source                                                          *
+     *                                                                      *
+     ***********************************************************************/
+
+    @Override
+    public ReadOnlyIntegerProperty itemCountProperty() {
+        return itemCount.getReadOnlyProperty();
+    }
+
+    /**
+     * Decodes the records [offset, offset+limit). Items that are still in the cache are not decoded again.
+     * The mapped file is read on the calling thread, i.e. the background executor of the control.
+     */
+    @Override
+    public CompletableFuture<List<T>> loadPage(int offset, int limit) {
+        MappedByteBuffer[] segments = this.segments;
+        int end = (int) Math.min((long) offset + limit, (long) segments.length * recordsPerSegment);
+        end = Math.min(end, itemCount.get());
+        List<T> items = new ArrayList<>(Math.max(0, end - offset));
+
+        // Every load gets its own views of the segments, so decoders may change position and limit
+        ByteBuffer view = null;
+        int segmentIndex = -1;
+        for ( int index = offset; index < end; index++ ) {
+            T item = getCached(index);
+            if ( item == null ) {
+                if ( index / recordsPerSegment != segmentIndex ) {
+                    segmentIndex = index / recordsPerSegment;
+                    view = segments[segmentIndex].duplicate();
+                }
+                int position = (index % recordsPerSegment) * recordSize;
+                view.clear();
+                view.position(position);
+                view.limit(position + recordSize);
+                item = decoder.decode(view.slice(), index);
+                putCached(index, item);
+            }
+            items.add(item);
+        }
+        return CompletableFuture.completedFuture(items);
+    }
+
+    /**
+     * Maps the file again, e.g. after records were appended, and updates the item count.
+     * Has to be called on the JavaFX Application Thread.
+     *
+     * @throws IOException if the file cannot be mapped
+     */
+    public void refresh() throws IOException {
+        if ( cache != null ) {
+            synchronized ( cache ) {
+                cache.clear();
+            }
+        }
+        map();
+    }
+
+    private void map() throws IOException {
+        try ( FileChannel channel = FileChannel.open(file, StandardOpenOption.READ) ) {
+            long recordCount = Math.max(0, (channel.size() - headerSize) / recordSize);
+            recordCount = Math.min(recordCount, Integer.MAX_VALUE);
+            int segmentCount = (int) ((recordCount + recordsPerSegment - 1) / recordsPerSegment);
+            MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+            for ( int i = 0; i < segmentCount; i++ ) {
+                long firstRecord = (long) i * recordsPerSegment;
+                long records = Math.min(recordsPerSegment, recordCount - firstRecord);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, headerSize + firstRecord * recordSize, records * recordSize);
+            }
+            // The mapping stays valid after the channel is closed
+            this.segments = segments;
+            itemCount.set((int) recordCount);
+        }
+    }
+
+    private T getCached( int index ) {
+        if ( cache == null ) {
+            return null;
+        }
+        synchronized ( cache ) {
+            return cache.get(index);
+        }
+    }
+
+    private void putCached( int index, T item ) {
+        if ( cache == null ) {
+            return;
+        }
+        synchronized ( cache ) {
+            cache.put(index, item);
+            if ( cache.size() > cacheSize ) {
+                cache.remove(cache.keySet().iterator().next());
+            }
+        }
+    }
+
+    /* **********************************************************************
+     *                                                                      *
+     * Support classes                                                      *
+     *                                                                      *
+     ***********************************************************************/
+
+    /**
+     * Turns a record of the mapped file into a data item. Called on the background executor of the control,
+     * possibly by several threads at the same time.
+     *
+     * @param <T> The class type of the data items.
+     */
+    @FunctionalInterface
+    public interface Decoder<T> {
+
+        /**
+         * Decodes a record.
+         *
+         * @param record the bytes of the record, from position 0 to the record size. The buffer is big-endian,
+         *               change its order to read little-endian values. It must not be kept after the call.
+         * @param index the index of the record
+         * @return the data item of the record
+         */
+        T decode(ByteBuffer record, int index);
+    }
+
+}
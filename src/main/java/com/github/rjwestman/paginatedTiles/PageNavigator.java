@@ -0,0 +1,129 @@
+package com.github.rjwestman.paginatedTiles;
+
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.Pagination;
+import javafx.scene.control.Slider;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+
+/**
+ * The navigator of a PaginatedTiles control for very large page counts, used instead of the page indicators
+ * of the Pagination. It consists of a fixed set of nodes no matter how many pages there are: buttons for the
+ * first, previous, next and last page, a scrub bar and a field to enter a page number. A change of the page count
+ * only changes the range of the scrub bar and a label. While the scrub bar is dragged only the page number is
+ * updated, the page is built when the scrub bar is released.
+ *
+ * <p>
+ * Style class: page-navigator. The children have the style classes first-button, previous-button, scrub-bar,
+ * page-field, page-count, next-button and last-button.
+ * </p>
+ */
+final class PageNavigator extends HBox {
+
+    private final PaginatedTilesSkin<?> skin;
+    private final Pagination pagination;
+    private final Slider scrubBar = new Slider();
+    private final TextField pageField = new TextField();
+    private final Label pageCount = new Label();
+    /** Set while the navigator updates itself from the pagination, so the changes are not taken as user input */
+    private boolean updating;
+
+    PageNavigator( PaginatedTilesSkin<?> skin, Pagination pagination ) {
+        this.skin = skin;
+        this.pagination = pagination;
+        getStyleClass().add("page-navigator");
+        setAlignment(Pos.CENTER);
+
+        Button firstButton = createButton("\u00AB", "first-button");
+        firstButton.setOnAction( event -> skin.selectFirst() );
+        Button previousButton = createButton("\u2039", "previous-button");
+        previousButton.setOnAction( event -> skin.selectPrevious() );
+        Button nextButton = createButton("\u203A", "next-button");
+        nextButton.setOnAction( event -> skin.selectNext() );
+        Button lastButton = createButton("\u00BB", "last-button");
+        lastButton.setOnAction( event -> skin.selectLast() );
+
+        scrubBar.getStyleClass().add("scrub-bar");
+        scrubBar.setMin(0);
+        scrubBar.setBlockIncrement(1);
+        scrubBar.setMaxWidth(Double.MAX_VALUE);
+        HBox.setHgrow(scrubBar, Priority.ALWAYS);
+        scrubBar.valueProperty().addListener( observable -> onScrub() );
+        scrubBar.valueChangingProperty().addListener( observable -> onScrub() );
+
+        pageField.getStyleClass().add("page-field");
+        pageField.setPrefColumnCount(6);
+        pageField.setAlignment(Pos.CENTER_RIGHT);
+        pageField.setOnAction( event -> onPageEntered() );
+        pageField.focusedProperty().addListener( observable -> {
+            if ( !pageField.isFocused() ) {
+                update();
+            }
+        });
+
+        pageCount.getStyleClass().add("page-count");
+
+        getChildren().addAll(firstButton, previousButton, scrubBar, pageField, pageCount, nextButton, lastButton);
+
+        pagination.currentPageIndexProperty().addListener( observable -> update() );
+        pagination.pageCountProperty().addListener( observable -> update() );
+        update();
+    }
+
+    private static Button createButton( String text, String styleClass ) {
+        Button button = new Button(text);
+        button.getStyleClass().add(styleClass);
+        button.setFocusTraversable(false);
+        return button;
+    }
+
+    /**
+     * Shows the current page and the page count of the pagination. Costs the same for every page count.
+     */
+    private void update() {
+        updating = true;
+        int lastPageIndex = Math.max(0, pagination.getPageCount() - 1);
+        scrubBar.setMax(lastPageIndex);
+        scrubBar.setDisable(lastPageIndex == 0);
+        if ( !scrubBar.isValueChanging() ) {
+            scrubBar.setValue(pagination.getCurrentPageIndex());
+            pageField.setText(Integer.toString(pagination.getCurrentPageIndex() + 1));
+        }
+        pageCount.setText("/ " + (lastPageIndex + 1));
+        updating = false;
+    }
+
+    /**
+     * Previews the page number while the scrub bar is dragged and moves to the page once it is released.
+     */
+    private void onScrub() {
+        if ( updating ) {
+            return;
+        }
+        int pageIndex = (int) Math.round(scrubBar.getValue());
+        pageField.setText(Integer.toString(pageIndex + 1));
+        if ( !scrubBar.isValueChanging() && pageIndex != pagination.getCurrentPageIndex() ) {
+            skin.selectPage(pageIndex);
+        }
+    }
+
+    /**
+     * Moves to the page number entered into the page field, or shows the current page again if it is not a number.
+     */
+    private void onPageEntered() {
+        int pageNumber;
+        try {
+            pageNumber = Integer.parseInt(pageField.getText().trim());
+        } catch ( NumberFormatException e ) {
+            update();
+            return;
+        }
+        int pageIndex = Math.max(0, Math.min(pagination.getPageCount() - 1, pageNumber - 1));
+        pageField.setText(Integer.toString(pageIndex + 1));
+        skin.selectPage(pageIndex);
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.github.rjwestman.paginatedTiles;
+
+import com.github.rjwestman.paginatedTiles.PaginatedTiles.PageTransition;
+import javafx.animation.Interpolator;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.geometry.Bounds;
+import javafx.scene.CacheHint;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.util.Duration;
+
+/**
+ * Animates page flips of a PaginatedTiles control without rendering the live node trees of both pages.
+ * The outgoing page is captured once into an image (which is reused as long as the page size does not change)
+ * and the image is animated on top of the incoming page. The incoming page is rendered from a bitmap cache
+ * and does not receive mouse events until the animation finished.
+ */
+final class PageTransitionAnimator {
+
+    private static final Duration DURATION = Duration.millis(250);
+
+    private final SnapshotParameters snapshotParameters = new SnapshotParameters();
+    private final ImageView outgoingView = new ImageView();
+    private final Rectangle clip = new Rectangle();
+    private WritableImage image;
+
+    // The running animation and the nodes it changes
+    private Timeline animation;
+    private StackPane pageContainer;
+    private Node incomingPage;
+
+    PageTransitionAnimator() {
+        snapshotParameters.setFill(Color.TRANSPARENT);
+        outgoingView.setManaged(false);
+        outgoingView.setMouseTransparent(true);
+    }
+
+    /**
+     * Captures the outgoing page container into the image. Finishes a running animation first.
+     *
+     * @param outgoing the page container of the outgoing page
+     * @return false, if the page container cannot be captured, e.g. because it is not shown
+     */
+    boolean capture( StackPane outgoing ) {
+        finish();
+        Bounds bounds = outgoing.getBoundsInParent();
+        int width = (int) Math.ceil(bounds.getWidth());
+        int height = (int) Math.ceil(bounds.getHeight());
+        if ( outgoing.getScene() == null || width == 0 || height == 0 ) {
+            return false;
+        }
+        if ( image == null || (int) image.getWidth() != width || (int) image.getHeight() != height ) {
+            image = new WritableImage(width, height);
+        }
+        outgoing.snapshot(snapshotParameters, image);
+        outgoingView.setImage(image);
+        return true;
+    }
+
+    /**
+     * Plays the transition from the captured page to the incoming page.
+     *
+     * @param pageContainer the page container of the incoming page
+     * @param page the incoming page
+     * @param transition the kind of transition
+     * @param direction 1 if the page flips forward, -1 if it flips backward
+     */
+    void play( StackPane pageContainer, Node page, PageTransition transition, int direction ) {
+        this.pageContainer = pageContainer;
+        this.incomingPage = page;
+
+        outgoingView.setTranslateX(0);
+        outgoingView.setOpacity(1);
+        clip.widthProperty().bind(pageContainer.widthProperty());
+        clip.heightProperty().bind(pageContainer.heightProperty());
+        pageContainer.setClip(clip);
+        pageContainer.getChildren().add(outgoingView);
+        page.setCache(true);
+        page.setCacheHint(CacheHint.SPEED);
+        page.setMouseTransparent(true);
+
+        KeyFrame end;
+        if ( transition == PageTransition.SLIDE ) {
+            double distance = image.getWidth();
+            page.setTranslateX(direction * distance);
+            end = new KeyFrame(DURATION,
+                    new KeyValue(outgoingView.translateXProperty(), -direction * distance, Interpolator.EASE_BOTH),
+                    new KeyValue(page.translateXProperty(), 0, Interpolator.EASE_BOTH));
+        } else {
+            page.setOpacity(0);
+            end = new KeyFrame(DURATION,
+                    new KeyValue(outgoingView.opacityProperty(), 0, Interpolator.EASE_BOTH),
+                    new KeyValue(page.opacityProperty(), 1, Interpolator.EASE_BOTH));
+        }
+        animation = new Timeline(end);
+        animation.setOnFinished( event -> onFinished() );
+        animation.play();
+    }
+
+    /**
+     * Jumps to the end of a running animation, so the incoming page is live right away.
+     */
+    void finish() {
+        if ( animation != null ) {
+            animation.stop();
+            onFinished();
+        }
+    }
+
+    private void onFinished() {
+        pageContainer.getChildren().remove(outgoingView);
+        pageContainer.setClip(null);
+        clip.widthProperty().unbind();
+        clip.heightProperty().unbind();
+        incomingPage.setTranslateX(0);
+        incomingPage.setOpacity(1);
+        incomingPage.setCache(false);
+        incomingPage.setMouseTransparent(false);
+        animation = null;
+        pageContainer = null;
+        incomingPage = null;
+    }
+
+}
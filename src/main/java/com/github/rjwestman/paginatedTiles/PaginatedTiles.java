@@ -1,10 +1,17 @@
 package com.github.rjwestman.paginatedTiles;
 
 import javafx.beans.property.*;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.control.Control;
 import javafx.scene.control.Skin;
 import javafx.util.Callback;
+import javafx.util.Duration;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 
 /**
  * <p>
@@ -25,7 +32,7 @@ import javafx.util.Callback;
  *     <li>
  *         page - StackPane
  *         <ul>
- *             <li>tile-pane - TilePane</li>
+ *             <li>tile-pane - Region (fixed tile grid, supports -fx-hgap and -fx-vgap)</li>
  *         </ul>
  *     </li>
  *     <li>
@@ -48,8 +55,45 @@ import javafx.util.Callback;
  *             <li>page-information - Label</li>
  *         </ul>
  *     </li>
+ *     <li>
+ *         page-navigator - HBox (instead of the pagination-control with {@link NavigatorMode#SCRUB_BAR})
+ *         <ul>
+ *             <li>first-button, previous-button, next-button, last-button - Button</li>
+ *             <li>scrub-bar - Slider</li>
+ *             <li>page-field - TextField</li>
+ *             <li>page-count - Label</li>
+ *         </ul>
+ *     </li>
  * </ul>
  *
+ * <h3>Display mode</h3>
+ * <p>
+ * By default the tile cells are shown page by page ({@link DisplayMode#PAGINATED}). With
+ * {@link DisplayMode#SCROLLING} the pagination is replaced by one continuous, scrollable grid of tiles.
+ * The grid is virtualized: only the cells of the visible rows exist, and cells of rows that are scrolled
+ * out of view are reused for the rows that are scrolled into view. The scrolling mode shows the item list,
+ * a data source is only supported in the paginated mode.
+ * </p>
+ * <p>
+ * In the paginated mode page flips can be animated with the {@link #pageTransitionProperty() pageTransition}.
+ * The outgoing page is captured in an image once and the image is animated, while the incoming page is
+ * rendered from a bitmap cache. The cells of the incoming page only become interactive when the animation
+ * finished, so the cost of a frame does not depend on the number or complexity of the tile cells.
+ * </p>
+ * <p>
+ * The page indicators of the Pagination do not suit hundreds of thousands of pages. With the
+ * {@link #navigatorModeProperty() navigatorMode} set to {@link NavigatorMode#SCRUB_BAR} they are replaced by a
+ * navigator with a scrub bar and a page number field, which consists of the same few nodes for every page count.
+ * While the scrub bar is dragged only the page number is updated; the page is built when it is released.
+ * </p>
+ *
+ * <h3>Keyboard navigation</h3>
+ * <p>
+ * LEFT and RIGHT move one page, PAGE_UP and PAGE_DOWN move ten pages and HOME and END move to the first and
+ * last page. Key presses that follow each other quickly, e.g. of a held key, are coalesced: only the page
+ * at which the navigation settles is built, not the pages in between.
+ * </p>
+ *
  * <h3>Cell factory</h3>
  * <p>
  * The {@link #cellFactoryProperty() cellFactoryProperty} is a callback function
@@ -58,6 +102,128 @@ import javafx.util.Callback;
  * function should load and return the custom PaginatedTilesCell.
  * </p>
  *
+ * <p>
+ * Cells that are expensive to bind can extend {@link AsyncPaginatedTilesCell} instead. Their view model is
+ * prepared on the {@link #backgroundExecutorProperty() backgroundExecutor} and applied on the JavaFX Application
+ * Thread afterwards, so a page is shown right away and its cells fill in as their view models are ready.
+ * </p>
+ *
+ * <h3>Level of detail</h3>
+ * <p>
+ * With {@link #levelOfDetailProperty() levelOfDetail} enabled, pages that are flipped through quickly are filled
+ * with skeleton cells: the cells are bound with {@link PaginatedTilesCell#updateSkeleton(Object)} instead of
+ * {@link PaginatedTilesCell#updateCell(Object)}. The same happens to the rest of a page once binding its cells
+ * took longer than a frame allows. Skeleton cells are upgraded to full cells when the page was shown for the
+ * {@link #detailDelayProperty() detailDelay}, again spread over frames.
+ * </p>
+ *
+ * <h3>Cell recycling</h3>
+ * <p>
+ * Tile cells are not thrown away when they leave a page. The skin keeps them in a pool
+ * and rebinds them to new data items using {@link PaginatedTilesCell#updateCell(Object)}.
+ * The maximum number of pooled cells can be set with the
+ * {@link #cellPoolSizeProperty() cellPoolSizeProperty}. Cells that do not fit into the pool
+ * are disposed. See {@link PaginatedTilesCell#recycleCell()} and {@link PaginatedTilesCell#disposeCell()}
+ * for the lifecycle hooks.
+ * </p>
+ *
+ * <h3>Filtering and sorting</h3>
+ * <p>
+ * The {@link #filterProperty() filter} and {@link #comparatorProperty() comparator} select and order the items of
+ * the item list that are shown, without changing the item list itself. They are applied on the
+ * {@link #backgroundExecutorProperty() backgroundExecutor} (in parallel for large lists) to a snapshot of the
+ * item list, resulting in an index of the shown items. The control keeps showing the previous result until the
+ * new one is ready; a computation that is overtaken by a newer filter or comparator is cancelled. Insertions,
+ * removals and permutations of the item list are applied to the index right away, only the added items are
+ * filtered and sorted in. Filter and comparator do not apply to a data source.
+ * </p>
+ *
+ * <h3>Selection</h3>
+ * <p>
+ * The {@link #selectionModelProperty() selectionModel} holds the selected items by index in a bit set, so even
+ * range selections over millions of items are cheap. Only the visible tile cells show their selection state,
+ * with the pseudo-class <i>selected</i>.
+ * </p>
+ *
+ * <h3>Showing an item</h3>
+ * <p>
+ * {@link #showItem(Object)} and {@link #showIndex(int)} move to the page that contains an item (or scroll it into
+ * view in the scrolling display mode), optionally highlighting its tile cell (pseudo-class <i>highlighted</i>,
+ * see {@link #highlightedIndexProperty() highlightedIndex}). Items are looked up in a map from item to index that
+ * is kept up to date from the item list changes, instead of searching the item list.
+ * </p>
+ *
+ * <h3>Items that change in place</h3>
+ * <p>
+ * The skin reacts to changes of the item list, not to changes of the items themselves. When an item changed in
+ * place, call {@link #refreshItem(Object)} or {@link #refreshIndex(int)}: only its tile cell is updated, and only
+ * if it is on screen. Items of a data source are loaded again by {@link #refreshIndex(int)}. Alternatively create the item list with an extractor
+ * ({@link FXCollections#observableArrayList(javafx.util.Callback)}), whose update changes are handled the same way.
+ * Without filter and comparator such updates do not touch anything but the cells of the updated items; with them
+ * only the updated items are filtered and sorted in again, because the changed properties may decide whether and
+ * where they are shown. A filter and sort computation that is running meanwhile is not cancelled.
+ * </p>
+ *
+ * <h3>Batch updates</h3>
+ * <p>
+ * Every change of the item list makes the skin recalculate the page count and update the current page.
+ * When the item list is changed in several steps, wrap them in {@link #runBatched(Runnable)} (or
+ * {@link #beginUpdate()} / {@link #endUpdate()}), so the skin reconciles all steps at once when the batch ends.
+ * </p>
+ * <p>
+ * Items produced on other threads can be handed to {@link #ingest(Object)} and {@link #ingestAll(Collection)}.
+ * They are queued without locking and appended once per pulse in a single change of the item list, at most
+ * {@link #ingestBudgetProperty() ingestBudget} items per pulse, so a burst of items does not flood the
+ * event queue or stall a frame. {@link #getPendingIngestCount()} tells producers how far the control is behind.
+ * </p>
+ *
+ * <h3>Resizing</h3>
+ * <p>
+ * The tiles per page and the page count are calculated in the layout pass of the control, once per pulse and
+ * with the final size of the page, and the page is filled in the same pulse. The first page is built once, for the number
+ * of tiles that fit on it. During a live resize the recalculation can be delayed further with the
+ * {@link #resizeDelayProperty() resizeDelay}, so the page is only rebuilt once the size settles.
+ * When the number of tiles per page changes, the control moves to the page that holds the first item of the page
+ * shown before, so the user keeps their place. The cells of items that stay on the page are kept, only the cells
+ * at the start and the end of the page are added or recycled.
+ * </p>
+ *
+ * <h3>Prefetching</h3>
+ * <p>
+ * If the {@link #prefetchRadiusProperty() prefetchRadius} is greater than 0, the pages around the current page
+ * are built in the background after the current page was shown, so that moving to them does not need to build
+ * the page and its cells first. Prefetching is not done while a data source is set.
+ * </p>
+ * <p>
+ * Pages that were left are kept in a page cache of {@link #pageCacheSizeProperty() pageCacheSize} pages, so going
+ * back to a page that was just seen reuses the page with its cells. The least recently used page is dropped when
+ * the cache is full. A cached page is dropped as soon as an item list change touches its items, all cached pages
+ * are dropped when the number of tiles per page changes. Like prefetching, the cache is not used with a data source.
+ * </p>
+ *
+ * <h3>Data source</h3>
+ * <p>
+ * Instead of a list of data items the control can be given a {@link PaginatedTilesDataSource}.
+ * The data items of a page are then loaded on the {@link #backgroundExecutorProperty() backgroundExecutor}
+ * when the page is shown. Until the load finishes the tile cells are shown in their pending state
+ * (pseudo-class <i>pending</i>, see {@link PaginatedTilesCell#updatePending()}). Loads of pages that are
+ * no longer shown are cancelled.
+ * </p>
+ * <p>
+ * For very large data sets {@link MappedRecordDataSource} reads the data items from a memory-mapped file of
+ * fixed-width records and only decodes the records of the shown page.
+ * </p>
+ *
+ * <h3>Instrumentation</h3>
+ * <p>
+ * If {@link #statisticsEnabledProperty() statisticsEnabled} is set, the skin counts page builds by cause, cell
+ * creations and cell reuses and records page build times in the {@link #getStatistics() statistics}.
+ * Independent of that, the skin emits JDK Flight Recorder events (category JavaFX / PaginatedTiles) for page
+ * factory calls, resizes and item list changes, which only cost anything while a recording enables them.
+ * On runtimes without JFR (Java 8 before 8u262) the events are left out and the control works as usual;
+ * to build on such a JDK, skip the JFR sources with {@code -Dnojfr}.
+ * </p>
+ *
  * <h3>Creating a PaginatedTiles control:</h3>
  * A simple example of how to create a PaginatedTiles can be found in the paginatedTilesExamples package.
  * The concept is this:
@@ -110,10 +276,38 @@ public class PaginatedTiles<T> extends Control {
      * @param tileHeight the height of your tile cells - used to calculate the tiles that fit one one page and the page count.
      */
     public PaginatedTiles (ListProperty<T> itemList, double tileWidth, double tileHeight) {
+        this.itemList = new SimpleListProperty<>();
         this.itemList.bindBidirectional(itemList);
         init(tileWidth, tileHeight);
     }
 
+    /**
+     * Constructs a new PaginatedTiles control that loads its data items page by page from
+     * the specified data source.
+     *
+     * @param dataSource the data source that provides the data items represented by your tile cell.
+     * @param tileWidth the width of your tile cells - used to calculate the tiles that fit one one page and the page count.
+     * @param tileHeight the height of your tile cells - used to calculate the tiles that fit one one page and the page count.
+     */
+    public PaginatedTiles (PaginatedTilesDataSource<T> dataSource, double tileWidth, double tileHeight) {
+        this.itemList = new SimpleListProperty<>(FXCollections.observableArrayList());
+        init(tileWidth, tileHeight);
+        setDataSource(dataSource);
+    }
+
+    /**
+     * Constructs a new PaginatedTiles control that uses the given property as its item list property,
+     * e.g. to observe the listeners registered on it.
+     *
+     * @param tileWidth the width of your tile cells
+     * @param tileHeight the height of your tile cells
+     * @param itemListProperty the item list property of the control
+     */
+    PaginatedTiles (double tileWidth, double tileHeight, ListProperty<T> itemListProperty) {
+        this.itemList = itemListProperty;
+        init(tileWidth, tileHeight);
+    }
+
     // Helper classes for the constructors
 
     /**
@@ -128,6 +322,39 @@ public class PaginatedTiles<T> extends Control {
         this.tileWidth = new SimpleDoubleProperty(tileWidth);
         this.tileHeight = new SimpleDoubleProperty(tileHeight);
         cellFactory = new SimpleObjectProperty<>(this, "cellFactory");
+        cellPoolSize = new SimpleIntegerProperty(this, "cellPoolSize", DEFAULT_CELL_POOL_SIZE);
+        resizeDelay = new SimpleObjectProperty<>(this, "resizeDelay", Duration.ZERO);
+        prefetchRadius = new SimpleIntegerProperty(this, "prefetchRadius", 0);
+        pageCacheSize = new SimpleIntegerProperty(this, "pageCacheSize", 0);
+        displayMode = new SimpleObjectProperty<>(this, "displayMode", DisplayMode.PAGINATED);
+        pageTransition = new SimpleObjectProperty<>(this, "pageTransition", PageTransition.NONE);
+        navigatorMode = new SimpleObjectProperty<>(this, "navigatorMode", NavigatorMode.INDICATORS);
+        dataSource = new SimpleObjectProperty<>(this, "dataSource");
+        backgroundExecutor = new SimpleObjectProperty<>(this, "backgroundExecutor", BackgroundExecutors.getDefault());
+        updating = new ReadOnlyBooleanWrapper(this, "updating");
+        statisticsEnabled = new SimpleBooleanProperty(this, "statisticsEnabled", false);
+        filter = new SimpleObjectProperty<>(this, "filter");
+        comparator = new SimpleObjectProperty<>(this, "comparator");
+        highlightedIndex = new SimpleIntegerProperty(this, "highlightedIndex", -1);
+        selectionModel = new SimpleObjectProperty<PaginatedTilesSelectionModel<T>>(this, "selectionModel",
+                new PaginatedTilesSelectionModel<>(this)) {
+            private PaginatedTilesSelectionModel<T> attached = get();
+
+            @Override protected void invalidated() {
+                // A replaced selection model stops shifting its indices with the item list
+                if ( attached != null ) {
+                    attached.detach();
+                }
+                attached = get();
+                if ( attached != null ) {
+                    attached.attach();
+                }
+            }
+        };
+        ingestBudget = new SimpleIntegerProperty(this, "ingestBudget", DEFAULT_INGEST_BUDGET);
+        levelOfDetail = new SimpleBooleanProperty(this, "levelOfDetail", false);
+        detailDelay = new SimpleObjectProperty<>(this, "detailDelay", DEFAULT_DETAIL_DELAY);
+        ingestor = new ItemIngestor<>(this, this::getIngestBudget);
     }
 
     /* **********************************************************************
@@ -140,6 +367,32 @@ public class PaginatedTiles<T> extends Control {
     private DoubleProperty tileWidth;
     private DoubleProperty tileHeight;
     private ObjectProperty<Callback<PaginatedTiles<T>, PaginatedTilesCell<T>>> cellFactory;
+    private IntegerProperty cellPoolSize;
+    private ObjectProperty<Duration> resizeDelay;
+    private IntegerProperty prefetchRadius;
+    private IntegerProperty pageCacheSize;
+    private ObjectProperty<DisplayMode> displayMode;
+    private ObjectProperty<PageTransition> pageTransition;
+    private ObjectProperty<NavigatorMode> navigatorMode;
+    private ObjectProperty<PaginatedTilesDataSource<T>> dataSource;
+    private ObjectProperty<Executor> backgroundExecutor;
+    private ReadOnlyBooleanWrapper updating;
+    private int updateDepth;
+    private BooleanProperty statisticsEnabled;
+    private ObjectProperty<Predicate<? super T>> filter;
+    private ObjectProperty<Comparator<? super T>> comparator;
+    private IntegerProperty highlightedIndex;
+    private ObjectProperty<PaginatedTilesSelectionModel<T>> selectionModel;
+    private IntegerProperty ingestBudget;
+    private BooleanProperty levelOfDetail;
+    private ObjectProperty<Duration> detailDelay;
+    private ItemIngestor<T> ingestor;
+    /** The index to show once the skin is created, -1 if there is none */
+    int requestedIndex = -1;
+    /** The item to show once the skin is created, null if there is none */
+    T requestedItem;
+    boolean requestedItemHighlight;
+    private final PaginatedTilesStatistics statistics = new PaginatedTilesStatistics();
 
     /* **********************************************************************
      *                                                                      *
@@ -191,15 +444,551 @@ public class PaginatedTiles<T> extends Control {
         this.cellFactory.set(cellFactory);
     }
 
+    // cellPoolSize
+    public int getCellPoolSize() {
+        return cellPoolSize.get();
+    }
+    /**
+     * The maximum number of unused tile cells that are kept for reuse.
+     * Setting this to 0 disables cell recycling.
+     *
+     * @return the cellPoolSize property
+     */
+    public IntegerProperty cellPoolSizeProperty() {
+        return cellPoolSize;
+    }
+    public void setCellPoolSize(int cellPoolSize) {
+        this.cellPoolSize.set(cellPoolSize);
+    }
+
+    // resizeDelay
+    public Duration getResizeDelay() {
+        return resizeDelay.get();
+    }
+    /**
+     * The time the size of the page has to stay unchanged before the page is rebuilt for the new size.
+     * The first sizing of the control is never delayed. Defaults to {@link Duration#ZERO}, which rebuilds
+     * the page once per pulse during a resize.
+     *
+     * @return the resizeDelay property
+     */
+    public ObjectProperty<Duration> resizeDelayProperty() {
+        return resizeDelay;
+    }
+    public void setResizeDelay(Duration resizeDelay) {
+        this.resizeDelay.set(resizeDelay);
+    }
+
+    // prefetchRadius
+    public int getPrefetchRadius() {
+        return prefetchRadius.get();
+    }
+    /**
+     * The number of pages before and after the current page that are built ahead of time.
+     * 0 disables prefetching, which is the default.
+     *
+     * @return the prefetchRadius property
+     */
+    public IntegerProperty prefetchRadiusProperty() {
+        return prefetchRadius;
+    }
+    public void setPrefetchRadius(int prefetchRadius) {
+        this.prefetchRadius.set(prefetchRadius);
+    }
+
+    // pageCacheSize
+    public int getPageCacheSize() {
+        return pageCacheSize.get();
+    }
+    /**
+     * The maximum number of pages that are kept after they were left, in addition to the prefetched pages.
+     * Limits the memory used by the page cache to that number of pages with their tile cells.
+     * 0 disables the page cache, which is the default.
+     *
+     * @return the pageCacheSize property
+     */
+    public IntegerProperty pageCacheSizeProperty() {
+        return pageCacheSize;
+    }
+    public void setPageCacheSize(int pageCacheSize) {
+        this.pageCacheSize.set(pageCacheSize);
+    }
+
+    // displayMode
+    public DisplayMode getDisplayMode() {
+        return displayMode.get();
+    }
+    /**
+     * Whether the tile cells are shown page by page or in one continuous scrollable grid.
+     *
+     * @return the displayMode property
+     */
+    public ObjectProperty<DisplayMode> displayModeProperty() {
+        return displayMode;
+    }
+    public void setDisplayMode(DisplayMode displayMode) {
+        this.displayMode.set(displayMode);
+    }
+
+    // pageTransition
+    public PageTransition getPageTransition() {
+        return pageTransition.get();
+    }
+    /**
+     * The animation of page flips in the paginated display mode.
+     *
+     * @return the pageTransition property
+     */
+    public ObjectProperty<PageTransition> pageTransitionProperty() {
+        return pageTransition;
+    }
+    public void setPageTransition(PageTransition pageTransition) {
+        this.pageTransition.set(pageTransition);
+    }
+
+    // navigatorMode
+    public NavigatorMode getNavigatorMode() {
+        return navigatorMode.get();
+    }
+    /**
+     * How the pages are navigated in the paginated display mode: with the page indicators of the Pagination,
+     * or with a scrub bar that suits very large page counts.
+     *
+     * @return the navigatorMode property
+     */
+    public ObjectProperty<NavigatorMode> navigatorModeProperty() {
+        return navigatorMode;
+    }
+    public void setNavigatorMode(NavigatorMode navigatorMode) {
+        this.navigatorMode.set(navigatorMode);
+    }
+
+    // dataSource
+    public PaginatedTilesDataSource<T> getDataSource() {
+        return dataSource.get();
+    }
+    /**
+     * The data source the data items are loaded from. If it is set, it is used instead of the item list.
+     *
+     * @return the dataSource property
+     */
+    public ObjectProperty<PaginatedTilesDataSource<T>> dataSourceProperty() {
+        return dataSource;
+    }
+    public void setDataSource(PaginatedTilesDataSource<T> dataSource) {
+        this.dataSource.set(dataSource);
+    }
+
+    // backgroundExecutor
+    public Executor getBackgroundExecutor() {
+        return backgroundExecutor.get();
+    }
+    /**
+     * The executor that runs the background work of this control, e.g. loading pages from the data source.
+     * Defaults to an executor that uses virtual threads where available and otherwise a pool of as many
+     * daemon threads as there are processors.
+     *
+     * @return the backgroundExecutor property
+     */
+    public ObjectProperty<Executor> backgroundExecutorProperty() {
+        return backgroundExecutor;
+    }
+    public void setBackgroundExecutor(Executor backgroundExecutor) {
+        this.backgroundExecutor.set(backgroundExecutor);
+    }
+
+    // updating
+    public boolean isUpdating() {
+        return updating.get();
+    }
+    /**
+     * Whether the control is in a batch update, see {@link #beginUpdate()}.
+     *
+     * @return the updating property
+     */
+    public ReadOnlyBooleanProperty updatingProperty() {
+        return updating.getReadOnlyProperty();
+    }
+
+    // filter
+    public Predicate<? super T> getFilter() {
+        return filter.get();
+    }
+    /**
+     * The predicate that selects the shown items of the item list. Null shows all items.
+     * It is evaluated on a background thread.
+     *
+     * @return the filter property
+     */
+    public ObjectProperty<Predicate<? super T>> filterProperty() {
+        return filter;
+    }
+    public void setFilter(Predicate<? super T> filter) {
+        this.filter.set(filter);
+    }
+
+    // comparator
+    public Comparator<? super T> getComparator() {
+        return comparator.get();
+    }
+    /**
+     * The order of the shown items. Null keeps the order of the item list.
+     * It is evaluated on a background thread.
+     *
+     * @return the comparator property
+     */
+    public ObjectProperty<Comparator<? super T>> comparatorProperty() {
+        return comparator;
+    }
+    public void setComparator(Comparator<? super T> comparator) {
+        this.comparator.set(comparator);
+    }
+
+    // levelOfDetail
+    public boolean isLevelOfDetail() {
+        return levelOfDetail.get();
+    }
+    /**
+     * Whether pages that are flipped through quickly, or whose cells take longer to bind than a frame allows,
+     * show skeleton cells (see {@link PaginatedTilesCell#updateSkeleton(Object)}) until the page was shown
+     * for the {@link #detailDelayProperty() detailDelay}. Only used in the paginated display mode. Defaults to false.
+     *
+     * @return the levelOfDetail property
+     */
+    public BooleanProperty levelOfDetailProperty() {
+        return levelOfDetail;
+    }
+    public void setLevelOfDetail(boolean levelOfDetail) {
+        this.levelOfDetail.set(levelOfDetail);
+    }
+
+    // detailDelay
+    public Duration getDetailDelay() {
+        return detailDelay.get();
+    }
+    /**
+     * The time a page has to be shown before its skeleton cells are replaced by full cells. Page flips that follow
+     * each other closer than this count as fast navigation. Defaults to 200 ms.
+     *
+     * @return the detailDelay property
+     */
+    public ObjectProperty<Duration> detailDelayProperty() {
+        return detailDelay;
+    }
+    public void setDetailDelay(Duration detailDelay) {
+        this.detailDelay.set(detailDelay);
+    }
+
+    // ingestBudget
+    public int getIngestBudget() {
+        return ingestBudget.get();
+    }
+    /**
+     * The maximum number of items that {@link #ingest(Object)} and {@link #ingestAll(Collection)} append to the
+     * item list per pulse. Further items wait for the next pulses. Defaults to 5000.
+     *
+     * @return the ingestBudget property
+     */
+    public IntegerProperty ingestBudgetProperty() {
+        return ingestBudget;
+    }
+    public void setIngestBudget(int ingestBudget) {
+        this.ingestBudget.set(ingestBudget);
+    }
+
+    // selectionModel
+    public PaginatedTilesSelectionModel<T> getSelectionModel() {
+        return selectionModel.get();
+    }
+    /**
+     * The selection of items. Clicking a tile cell selects its item, with the shortcut key held down the selection
+     * of the item is toggled and with the shift key held down the range from the last selected item is selected.
+     * Set to null to disable selection.
+     *
+     * @return the selectionModel property
+     */
+    public ObjectProperty<PaginatedTilesSelectionModel<T>> selectionModelProperty() {
+        return selectionModel;
+    }
+    public void setSelectionModel(PaginatedTilesSelectionModel<T> selectionModel) {
+        this.selectionModel.set(selectionModel);
+    }
+
+    // highlightedIndex
+    public int getHighlightedIndex() {
+        return highlightedIndex.get();
+    }
+    /**
+     * The position of the highlighted tile cell among the shown items, -1 if no cell is highlighted.
+     * The highlighted cell has the pseudo-class <i>highlighted</i>.
+     *
+     * @return the highlightedIndex property
+     */
+    public IntegerProperty highlightedIndexProperty() {
+        return highlightedIndex;
+    }
+    public void setHighlightedIndex(int highlightedIndex) {
+        this.highlightedIndex.set(highlightedIndex);
+    }
+
+    // statisticsEnabled
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled.get();
+    }
+    /**
+     * Whether the skin records its work in the {@link #getStatistics() statistics}. Disabled by default.
+     *
+     * @return the statisticsEnabled property
+     */
+    public BooleanProperty statisticsEnabledProperty() {
+        return statisticsEnabled;
+    }
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled.set(statisticsEnabled);
+    }
+
+    // statistics
+    /**
+     * The statistics about page builds and cell usage of this control.
+     * They are only updated while {@link #statisticsEnabledProperty() statisticsEnabled} is set.
+     *
+     * @return the statistics of this control
+     */
+    public PaginatedTilesStatistics getStatistics() {
+        return statistics;
+    }
+
     /* **********************************************************************
      *                                                                      *
      * Methods                                                              *
      *                                                                      *
      ***********************************************************************/
 
+    /**
+     * Starts a batch update. Until the matching {@link #endUpdate()} the skin collects the changes
+     * of the item list instead of recalculating the page count and updating the page for each of them.
+     * Batch updates can be nested, the batch ends with the outermost endUpdate.
+     */
+    public void beginUpdate() {
+        if ( updateDepth++ == 0 ) {
+            updating.set(true);
+        }
+    }
+
+    /**
+     * Ends a batch update started by {@link #beginUpdate()}. When the outermost batch ends,
+     * the collected changes are reconciled at once.
+     *
+     * @throws IllegalStateException if there is no batch update to end
+     */
+    public void endUpdate() {
+        if ( updateDepth == 0 ) {
+            throw new IllegalStateException("endUpdate() called without beginUpdate()");
+        }
+        if ( --updateDepth == 0 ) {
+            updating.set(false);
+        }
+    }
+
+    /**
+     * Runs the given changes of the item list as one batch update.
+     *
+     * @param changes the code that changes the item list
+     */
+    public void runBatched(Runnable changes) {
+        beginUpdate();
+        try {
+            changes.run();
+        } finally {
+            endUpdate();
+        }
+    }
+
+    /**
+     * Appends an item to the item list. Unlike the item list itself, this method may be called from any thread.
+     * The item is appended in the next pulse, together with all other items ingested until then
+     * (up to the {@link #ingestBudgetProperty() ingestBudget}).
+     *
+     * @param item the item to append
+     * @throws NullPointerException if the item is null
+     */
+    public void ingest(T item) {
+        ingestor.add(item);
+    }
+
+    /**
+     * Appends items to the item list. Unlike the item list itself, this method may be called from any thread.
+     * The items are appended in the next pulse, together with all other items ingested until then
+     * (up to the {@link #ingestBudgetProperty() ingestBudget}).
+     *
+     * @param items the items to append
+     * @throws NullPointerException if one of the items is null, then none of them is appended
+     */
+    public void ingestAll(Collection<? extends T> items) {
+        ingestor.addAll(items);
+    }
+
+    /**
+     * Returns the number of ingested items that were not appended to the item list yet.
+     * Producers can use it to slow down when the control falls behind. May be called from any thread.
+     *
+     * @return the number of waiting items
+     */
+    public int getPendingIngestCount() {
+        return ingestor.getPendingCount();
+    }
+
+    /**
+     * Moves to the page that contains the item at the given position among the shown items
+     * (i.e. after filtering and sorting), or scrolls it into view in the scrolling display mode.
+     *
+     * @param index the position of the item
+     */
+    public void showIndex(int index) {
+        showIndex(index, false);
+    }
+
+    /**
+     * Moves to the page that contains the item at the given position among the shown items
+     * (i.e. after filtering and sorting), or scrolls it into view in the scrolling display mode.
+     *
+     * @param index the position of the item
+     * @param highlight whether the tile cell of the item is highlighted
+     */
+    public void showIndex(int index, boolean highlight) {
+        if ( highlight ) {
+            setHighlightedIndex(index);
+        }
+        Skin<?> skin = getSkin();
+        if ( skin instanceof PaginatedTilesSkin ) {
+            ((PaginatedTilesSkin<?>) skin).showIndex(index);
+        } else {
+            requestedIndex = index;
+            requestedItem = null;
+        }
+    }
+
+    /**
+     * Moves to the page that contains the given item, or scrolls it into view in the scrolling display mode.
+     *
+     * @param item the item to show
+     * @return false, if the item is not shown by this control
+     */
+    public boolean showItem(T item) {
+        return showItem(item, false);
+    }
+
+    /**
+     * Moves to the page that contains the given item, or scrolls it into view in the scrolling display mode.
+     * Before the control has a skin, the item is remembered and shown once the skin knows its position.
+     *
+     * @param item the item to show
+     * @param highlight whether the tile cell of the item is highlighted
+     * @return false, if the item is not shown by this control; always true before the control has a skin
+     */
+    @SuppressWarnings("unchecked")
+    public boolean showItem(T item, boolean highlight) {
+        Skin<?> skin = getSkin();
+        if ( !(skin instanceof PaginatedTilesSkin) ) {
+            requestedItem = item;
+            requestedItemHighlight = highlight;
+            requestedIndex = -1;
+            return true;
+        }
+        int index = ((PaginatedTilesSkin<T>) skin).getViewPosition(item);
+        if ( index < 0 ) {
+            return false;
+        }
+        showIndex(index, highlight);
+        return true;
+    }
+
+    /**
+     * Updates the tile cell of an item that changed in place, e.g. after one of its fields was set.
+     * Only a tile cell that is on screen is updated right away, through {@link PaginatedTilesCell#updateCell(Object)};
+     * the cells of cached pages are updated when their page is shown again. If the item is not on any page,
+     * this costs next to nothing. Filter and comparator are not applied again.
+     * With a data source the item is loaded again, with {@code loadPage(index, 1)} on the background executor,
+     * and bound to its tile cell if that is still on screen.
+     *
+     * @param index the index of the item in the item list, or in the data source if one is set
+     */
+    public void refreshIndex(int index) {
+        Skin<?> skin = getSkin();
+        if ( skin instanceof PaginatedTilesSkin ) {
+            ((PaginatedTilesSkin<?>) skin).refreshIndex(index);
+        }
+    }
+
+    /**
+     * Updates the tile cell of an item of the item list that changed in place, see {@link #refreshIndex(int)}.
+     *
+     * @param item the item that changed
+     */
+    @SuppressWarnings("unchecked")
+    public void refreshItem(T item) {
+        Skin<?> skin = getSkin();
+        if ( skin instanceof PaginatedTilesSkin ) {
+            ((PaginatedTilesSkin<T>) skin).refreshItem(item);
+        }
+    }
+
     @Override
     protected Skin<?> createDefaultSkin() { return new PaginatedTilesSkin(this); }
 
+    /* **********************************************************************
+     *                                                                      *
+     * Support classes                                                      *
+     *                                                                      *
+     ***********************************************************************/
+
+    /**
+     * The ways the tile cells can be shown.
+     */
+    public enum DisplayMode {
+        /**
+         * The tile cells are shown page by page, using a Pagination.
+         */
+        PAGINATED,
+        /**
+         * The tile cells are shown in one continuous grid with a scroll bar.
+         */
+        SCROLLING
+    }
+
+    /**
+     * The animations of page flips in the paginated display mode.
+     */
+    public enum PageTransition {
+        /**
+         * The new page replaces the old one right away.
+         */
+        NONE,
+        /**
+         * The old page fades out while the new page fades in.
+         */
+        FADE,
+        /**
+         * The old page slides out while the new page slides in from the side of the flip direction.
+         */
+        SLIDE
+    }
+
+    /**
+     * The controls to navigate the pages in the paginated display mode.
+     */
+    public enum NavigatorMode {
+        /**
+         * The page indicators of the Pagination: arrow buttons, bullet or number buttons and the page information.
+         */
+        INDICATORS,
+        /**
+         * First, previous, next and last buttons, a scrub bar and a page number field. The number of nodes does not
+         * depend on the page count, and scrubbing only builds the page the scrub bar is released at.
+         */
+        SCRUB_BAR
+    }
+
     /* **********************************************************************
      *                                                                      *
      * Stylesheet handling                                                  *
@@ -208,4 +997,19 @@ public class PaginatedTiles<T> extends Control {
 
     private static final String DEFAULT_STYLE_CLASS = "paginated-tiles";
 
+    @Override
+    public String getUserAgentStylesheet() {
+        return PaginatedTiles.class.getResource("paginatedTiles.css").toExternalForm();
+    }
+
+    /* **********************************************************************
+     *                                                                      *
+     * Defaults                                                             *
+     *                                                                      *
+     ***********************************************************************/
+
+    private static final int DEFAULT_CELL_POOL_SIZE = 512;
+    private static final int DEFAULT_INGEST_BUDGET = 5000;
+    private static final Duration DEFAULT_DETAIL_DELAY = Duration.millis(200);
+
 }
@@ -3,6 +3,7 @@ package com.github.rjwestman.paginatedTiles;
 import com.sun.javafx.scene.control.behavior.BehaviorBase;
 import com.sun.javafx.scene.control.behavior.KeyBinding;
 import javafx.geometry.NodeOrientation;
+import javafx.scene.Node;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseEvent;
@@ -30,11 +31,22 @@ public class PaginatedTilesBehavior<T> extends BehaviorBase<PaginatedTiles<T>> {
 
     private static final String LEFT = "Left";
     private static final String RIGHT = "Right";
+    private static final String HOME = "Home";
+    private static final String END = "End";
+    private static final String PAGE_UP = "PageUp";
+    private static final String PAGE_DOWN = "PageDown";
+
+    /** The number of pages PAGE_UP and PAGE_DOWN move */
+    protected static final int PAGE_JUMP_SIZE = 10;
 
     protected static final List<KeyBinding> PAGINATEDGRID_BINDINGS = new ArrayList<>();
     static {
         PAGINATEDGRID_BINDINGS.add(new KeyBinding(KeyCode.LEFT, LEFT));
         PAGINATEDGRID_BINDINGS.add(new KeyBinding(KeyCode.RIGHT, RIGHT));
+        PAGINATEDGRID_BINDINGS.add(new KeyBinding(KeyCode.HOME, HOME));
+        PAGINATEDGRID_BINDINGS.add(new KeyBinding(KeyCode.END, END));
+        PAGINATEDGRID_BINDINGS.add(new KeyBinding(KeyCode.PAGE_UP, PAGE_UP));
+        PAGINATEDGRID_BINDINGS.add(new KeyBinding(KeyCode.PAGE_DOWN, PAGE_DOWN));
     }
 
     protected String matchActionForEvent(KeyEvent e) {
@@ -60,6 +72,18 @@ public class PaginatedTilesBehavior<T> extends BehaviorBase<PaginatedTiles<T>> {
         } else if (RIGHT.equals(name)) {
             PaginatedTilesSkin paginatedTilesSkin = (PaginatedTilesSkin)getControl().getSkin();
             paginatedTilesSkin.selectNext();
+        } else if (HOME.equals(name)) {
+            PaginatedTilesSkin paginatedTilesSkin = (PaginatedTilesSkin)getControl().getSkin();
+            paginatedTilesSkin.selectFirst();
+        } else if (END.equals(name)) {
+            PaginatedTilesSkin paginatedTilesSkin = (PaginatedTilesSkin)getControl().getSkin();
+            paginatedTilesSkin.selectLast();
+        } else if (PAGE_UP.equals(name)) {
+            PaginatedTilesSkin paginatedTilesSkin = (PaginatedTilesSkin)getControl().getSkin();
+            paginatedTilesSkin.selectBy(-PAGE_JUMP_SIZE);
+        } else if (PAGE_DOWN.equals(name)) {
+            PaginatedTilesSkin paginatedTilesSkin = (PaginatedTilesSkin)getControl().getSkin();
+            paginatedTilesSkin.selectBy(PAGE_JUMP_SIZE);
         } else {
             super.callAction(name);
         }
@@ -73,6 +97,28 @@ public class PaginatedTilesBehavior<T> extends BehaviorBase<PaginatedTiles<T>> {
 
     @Override public void mousePressed(MouseEvent e) {
         super.mousePressed(e);
+
+        PaginatedTilesSelectionModel<T> selectionModel = getControl().getSelectionModel();
+        PaginatedTilesCell<T> cell = findCell(e.getPickResult().getIntersectedNode());
+        if (selectionModel == null || cell == null || !(getControl().getSkin() instanceof PaginatedTilesSkin)) {
+            return;
+        }
+        PaginatedTilesSkin<T> skin = (PaginatedTilesSkin<T>)getControl().getSkin();
+        int index = skin.getItemIndex(cell);
+        if (index < 0) {
+            return;
+        }
+        if (e.isShortcutDown()) {
+            if (selectionModel.isSelected(index)) {
+                selectionModel.clearSelection(index);
+            } else {
+                selectionModel.select(index);
+            }
+        } else if (e.isShiftDown()) {
+            skin.selectRangeFromAnchor(selectionModel, index);
+        } else {
+            selectionModel.clearAndSelect(index);
+        }
     }
 
     /* **********************************************************************
@@ -81,4 +127,18 @@ public class PaginatedTilesBehavior<T> extends BehaviorBase<PaginatedTiles<T>> {
      *                                                                      *
      ***********************************************************************/
 
+    /**
+     * Finds the tile cell a node belongs to.
+     */
+    @SuppressWarnings("unchecked")
+    private PaginatedTilesCell<T> findCell(Node node) {
+        while (node != null && node != getControl()) {
+            if (node instanceof PaginatedTilesCell) {
+                return (PaginatedTilesCell<T>) node;
+            }
+            node = node.getParent();
+        }
+        return null;
+    }
+
 }
@@ -1,7 +1,10 @@
 package com.github.rjwestman.paginatedTiles;
 
+import javafx.css.PseudoClass;
 import javafx.scene.layout.StackPane;
 
+import java.util.concurrent.Executor;
+
 /**
  * Classes derived by this abstract class are used to represent data as tile cells in the PaginatedTiles control.
  *
@@ -13,6 +16,108 @@ public abstract class PaginatedTilesCell<T> extends StackPane {
      * Create the objects needed for the tile cell.
      */
     public PaginatedTilesCell() {
+        getStyleClass().add(DEFAULT_STYLE_CLASS);
+    }
+
+    private static final String DEFAULT_STYLE_CLASS = "paginated-tiles-cell";
+    private static final PseudoClass PENDING_PSEUDO_CLASS = PseudoClass.getPseudoClass("pending");
+    private static final PseudoClass HIGHLIGHTED_PSEUDO_CLASS = PseudoClass.getPseudoClass("highlighted");
+    private static final PseudoClass SELECTED_PSEUDO_CLASS = PseudoClass.getPseudoClass("selected");
+    private static final PseudoClass SKELETON_PSEUDO_CLASS = PseudoClass.getPseudoClass("skeleton");
+
+    /**
+     * The data item this cell is currently bound to. Managed by the skin.
+     */
+    private T item;
+    private boolean skeleton;
+
+    /**
+     * Returns the data item this cell currently represents.
+     *
+     * @return the data item of this cell or null, if the cell is not bound to an item.
+     */
+    public final T getItem() {
+        return item;
+    }
+
+    /**
+     * Binds the cell to a data item and updates its representation.
+     *
+     * @param item the data item that is represented by this cell.
+     * @param executor the executor for background work of the cell, not used by this class.
+     */
+    void bindItem(T item, Executor executor) {
+        this.item = item;
+        setPending(false);
+        setSkeleton(false);
+        updateCell(item);
+    }
+
+    /**
+     * Binds the cell to a data item, but only shows its lightweight skeleton representation.
+     *
+     * @param item the data item that is represented by this cell.
+     */
+    void bindSkeleton(T item) {
+        unbindItem();
+        this.item = item;
+        setPending(false);
+        setSkeleton(true);
+        updateSkeleton(item);
+    }
+
+    /**
+     * Puts the cell into its pending state, used while the data item of the cell is not available yet.
+     */
+    void bindPending() {
+        unbindItem();
+        setPending(true);
+        updatePending();
+    }
+
+    /**
+     * Updates the representation of the bound data item after the item changed in place.
+     * Cells that wait for their item or show their skeleton are left as they are, they are updated once bound.
+     *
+     * @param executor the executor for background work of the cell, not used by this class.
+     */
+    void refreshItem(Executor executor) {
+        if ( item != null && !skeleton ) {
+            updateCell(item);
+        }
+    }
+
+    /**
+     * Releases the data item of this cell, e.g. before the cell is put into the cell pool.
+     */
+    void unbindItem() {
+        this.item = null;
+        setSkeleton(false);
+    }
+
+    void setItem(T item) {
+        this.item = item;
+    }
+
+    void setPending(boolean pending) {
+        pseudoClassStateChanged(PENDING_PSEUDO_CLASS, pending);
+    }
+
+    void setSkeleton(boolean skeleton) {
+        this.skeleton = skeleton;
+        pseudoClassStateChanged(SKELETON_PSEUDO_CLASS, skeleton);
+    }
+
+    boolean isSkeleton() {
+        return skeleton;
+    }
+
+    void setHighlighted(boolean highlighted) {
+        pseudoClassStateChanged(HIGHLIGHTED_PSEUDO_CLASS, highlighted);
+    }
+
+    void setSelected(boolean selected) {
+        pseudoClassStateChanged(SELECTED_PSEUDO_CLASS, selected);
     }
 
     /**
@@ -22,4 +127,40 @@ public abstract class PaginatedTilesCell<T> extends StackPane {
      */
     public abstract void updateCell(T item);
 
+    /**
+     * Gets called when this cell is shown while its data item is still loading. The cell has the
+     * pseudo-class <i>pending</i> until {@link #updateCell(Object)} is called. By default the content
+     * of a pending cell is hidden by the stylesheet of the control.
+     * Override this to show a lightweight placeholder representation.
+     */
+    public void updatePending() {
+    }
+
+    /**
+     * Gets called instead of {@link #updateCell(Object)} while the user flips through pages quickly and the
+     * control uses level-of-detail rendering (see {@link PaginatedTiles#levelOfDetailProperty()}). The cell has
+     * the pseudo-class <i>skeleton</i> until {@link #updateCell(Object)} is called once the page was shown for
+     * a while. By default the content of a skeleton cell is hidden by the stylesheet of the control.
+     * Override this to show a cheap representation of the item, e.g. a single shape or a cached image.
+     *
+     * @param item the data item that is represented by this cell.
+     */
+    public void updateSkeleton(T item) {
+    }
+
+    /**
+     * Gets called when this cell is taken off a page and put into the cell pool of the skin.
+     * The cell will later be reused by calling {@link #updateCell(Object)} with another data item.
+     * Override this to release anything that is bound to the current data item.
+     */
+    public void recycleCell() {
+    }
+
+    /**
+     * Gets called when this cell is discarded for good, e.g. because the cell pool is full
+     * or the cell factory was changed. Override this to release resources held by the cell.
+     */
+    public void disposeCell() {
+    }
+
 }
@@ -0,0 +1,47 @@
+package com.github.rjwestman.paginatedTiles;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A data source provides the data items of a PaginatedTiles control page by page, as an alternative
+ * to a fully materialized item list. Only the items of the visible page are requested and held by the control.
+ *
+ * <p>
+ * {@link #loadPage(int, int) loadPage} is called on the background executor of the control, so it may block
+ * while reading from a slow store. The item count has to be changed on the JavaFX Application Thread.
+ * </p>
+ *
+ * @param <T> The class type that specifies that data that is visualised by your tileCell.
+ */
+public interface PaginatedTilesDataSource<T> {
+
+    /**
+     * The total number of data items of this data source. It is used to calculate the page count.
+     *
+     * @return the item count property
+     */
+    ReadOnlyIntegerProperty itemCountProperty();
+
+    /**
+     * Returns the total number of data items of this data source.
+     *
+     * @return the item count
+     */
+    default int getItemCount() {
+        return itemCountProperty().get();
+    }
+
+    /**
+     * Loads a range of data items. The returned future may be cancelled by the control if the
+     * page is no longer needed, e.g. because the user moved on to another page.
+     *
+     * @param offset the index of the first data item
+     * @param limit the maximum number of data items to load
+     * @return a future that completes with the loaded data items
+     */
+    CompletableFuture<List<T>> loadPage(int offset, int limit);
+
+}
@@ -0,0 +1,59 @@
+package com.github.rjwestman.paginatedTiles;
+
+/**
+ * The JDK Flight Recorder events emitted by the skin of the PaginatedTiles control.
+ * The events are only emitted if the runtime supports JFR (Java 8u262 or later) and the JFR
+ * implementation (src/jfr/java) was compiled in, see the jfr profile. Otherwise this class is
+ * used as it is and all methods do nothing, so the control does not depend on jdk.jfr.
+ *
+ * <p>
+ * An event is started with one of the begin methods, which returns a handle (null if events are not
+ * emitted), and committed with the matching commit method.
+ * </p>
+ */
+class PaginatedTilesEvents {
+
+    private static final PaginatedTilesEvents INSTANCE = load();
+
+    PaginatedTilesEvents() {
+    }
+
+    /**
+     * @return the events of the running JVM, no-ops if JFR is not available
+     */
+    static PaginatedTilesEvents get() {
+        return INSTANCE;
+    }
+
+    private static PaginatedTilesEvents load() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return (PaginatedTilesEvents) Class.forName("com.github.rjwestman.paginatedTiles.JfrPaginatedTilesEvents")
+                    .getDeclaredConstructor().newInstance();
+        } catch ( ReflectiveOperationException | LinkageError e ) {
+            return new PaginatedTilesEvents();
+        }
+    }
+
+    // A page was requested by the Pagination
+    Object beginPageFactory() {
+        return null;
+    }
+    void commitPageFactory( Object event, int pageIndex, int tilesPerPage, boolean prefetched, String cause ) {
+    }
+
+    // The tiles per page and page count were recalculated
+    Object beginResize() {
+        return null;
+    }
+    void commitResize( Object event, int oldTilesPerPage, int newTilesPerPage, int pageCount ) {
+    }
+
+    // A change of the item list was handled
+    Object beginListChange() {
+        return null;
+    }
+    void commitListChange( Object event, int itemCount, int changeFrom, boolean pageAffected, boolean batched ) {
+    }
+
+}
@@ -0,0 +1,426 @@
+package com.github.rjwestman.paginatedTiles;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ListChangeListener;
+import javafx.collections.WeakListChangeListener;
+import javafx.scene.control.SelectionMode;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * The selection of a PaginatedTiles control. Selected items are stored by their index in the item list
+ * (or the data source) as one bit per index, so membership tests are O(1) and selecting a range of millions
+ * of items does not create an object per item. Selecting all items and inverting the selection only flip
+ * a flag. Indices are shifted when items are added to, removed from or permutated within the item list.
+ * All indices of the selection model are indices of the item list, not the positions the items are shown at
+ * with a filter or sort order.
+ *
+ * <p>
+ * The skin shows the selection state of the visible tile cells with the pseudo-class <i>selected</i>.
+ * Listeners added with {@link #addListener(InvalidationListener)} are notified after every change of the selection.
+ * </p>
+ *
+ * @param <T> The class type that specifies that data that is visualised by your tileCell.
+ */
+public class PaginatedTilesSelectionModel<T> implements Observable {
+
+    private final PaginatedTiles<T> control;
+    /** One bit per index, the bit is set if the selection state of the index differs from inverted */
+    private final BitSet bits = new BitSet();
+    private boolean inverted;
+    /** The index shift-range selections start from, -1 if there is none */
+    private int anchor = -1;
+    private final List<InvalidationListener> listeners = new ArrayList<>();
+    private final ListChangeListener<T> listChangeListener = this::onListChange;
+    // Weak, so a selection model that was replaced without being detached does not stay attached to the control
+    private final WeakListChangeListener<T> weakListChangeListener = new WeakListChangeListener<>(listChangeListener);
+    private boolean attached;
+
+    private ObjectProperty<SelectionMode> selectionMode;
+    private ReadOnlyIntegerWrapper selectedIndex;
+
+    /* **********************************************************************
+     *                                                                      *
+     * Constructors                                                         *
+     *                                                                      *
+     ***********************************************************************/
+
+    /**
+     * Creates a selection model for a control and shifts its indices with the changes of the item list.
+     *
+     * @param control the control whose items are selected
+     */
+    public PaginatedTilesSelectionModel(PaginatedTiles<T> control) {
+        this.control = control;
+        init();
+    }
+
+    private void init() {
+        selectionMode = new SimpleObjectProperty<SelectionMode>(this, "selectionMode", SelectionMode.SINGLE) {
+            @Override protected void invalidated() {
+                if ( get() == SelectionMode.SINGLE && getSelectedCount() > 1 ) {
+                    int index = getSelectedIndex();
+                    clearSelection();
+                    select(index);
+                }
+            }
+        };
+        selectedIndex = new ReadOnlyIntegerWrapper(this, "selectedIndex", -1);
+
+        attach();
+    }
+
+    /**
+     * Starts shifting the indices with the changes of the item list. Called when the selection model is set on
+     * the control again after it was replaced.
+     */
+    void attach() {
+        if ( !attached ) {
+            attached = true;
+            control.itemListProperty().addListener(weakListChangeListener);
+        }
+    }
+
+    /**
+     * Stops listening to the item list of the control. Called when the selection model is replaced.
+     */
+    void detach() {
+        if ( attached ) {
+            attached = false;
+            control.itemListProperty().removeListener(weakListChangeListener);
+        }
+    }
+
+    /* **********************************************************************
+     *                                                                      *
+     * Properties                                                           *
+     *                                                                      *
+     ***********************************************************************/
+
+    // selectionMode
+    public SelectionMode getSelectionMode() {
+        return selectionMode.get();
+    }
+    /**
+     * Whether one item or several items can be selected. SINGLE is the default.
+     *
+     * @return the selectionMode property
+     */
+    public ObjectProperty<SelectionMode> selectionModeProperty() {
+        return selectionMode;
+    }
+    public void setSelectionMode(SelectionMode selectionMode) {
+        this.selectionMode.set(selectionMode);
+    }
+
+    // selectedIndex
+    public int getSelectedIndex() {
+        return selectedIndex.get();
+    }
+    /**
+     * The index of the item that was selected last, -1 if there is none.
+     *
+     * @return the selectedIndex property
+     */
+    public ReadOnlyIntegerProperty selectedIndexProperty() {
+        return selectedIndex.getReadOnlyProperty();
+    }
+
+    /* **********************************************************************
+     *                                                                      *
+     * Selection                                                            *
+     *                                                                      *
+     ***********************************************************************/
+
+    /**
+     * @param index the index of an item
+     * @return true, if the item is selected
+     */
+    public boolean isSelected(int index) {
+        return index >= 0 && index < getItemCount() && bits.get(index) != inverted;
+    }
+
+    /**
+     * @return true, if no item is selected
+     */
+    public boolean isEmpty() {
+        return getSelectedCount() == 0;
+    }
+
+    /**
+     * @return the number of selected items
+     */
+    public int getSelectedCount() {
+        int count = bits.cardinality();
+        return inverted ? getItemCount() - count : count;
+    }
+
+    /**
+     * Returns the first selected index at or behind the given index, to iterate over the selection.
+     *
+     * @param fromIndex the index to start from
+     * @return the selected index or -1, if no item at or behind fromIndex is selected
+     */
+    public int nextSelectedIndex(int fromIndex) {
+        int index = inverted ? bits.nextClearBit(fromIndex) : bits.nextSetBit(fromIndex);
+        return index >= 0 && index < getItemCount() ? index : -1;
+    }
+
+    /**
+     * Selects an item. In the single selection mode the previously selected item is deselected.
+     * The item becomes the anchor of range selections.
+     *
+     * @param index the index of the item
+     */
+    public void select(int index) {
+        if ( index < 0 || index >= getItemCount() ) {
+            return;
+        }
+        if ( getSelectionMode() == SelectionMode.SINGLE ) {
+            clearBits();
+        }
+        setSelected(index, true);
+        anchor = index;
+        selectedIndex.set(index);
+        fireInvalidation();
+    }
+
+    /**
+     * Deselects all items and selects the given one.
+     *
+     * @param index the index of the item
+     */
+    public void clearAndSelect(int index) {
+        clearBits();
+        select(index);
+    }
+
+    /**
+     * Selects the items [from, to) of the item list. With a filter or sort order these are not necessarily
+     * the items shown in between, shift clicks on tiles select those instead. In the single selection mode
+     * only the last item of the range is selected.
+     *
+     * @param from the index of the first item
+     * @param to the index behind the last item
+     */
+    public void selectRange(int from, int to) {
+        from = Math.max(0, from);
+        to = Math.min(getItemCount(), to);
+        if ( from >= to ) {
+            return;
+        }
+        if ( getSelectionMode() == SelectionMode.SINGLE ) {
+            select(to - 1);
+            return;
+        }
+        bits.set(from, to, !inverted);
+        selectedIndex.set(to - 1);
+        fireInvalidation();
+    }
+
+    /**
+     * Selects the items of the item list between the anchor and the given item and deselects all others.
+     * Selects only the given item if there is no anchor.
+     *
+     * @param index the index of the item
+     */
+    public void selectRangeFromAnchor(int index) {
+        if ( anchor < 0 || getSelectionMode() == SelectionMode.SINGLE ) {
+            clearAndSelect(index);
+            return;
+        }
+        clearBits();
+        int anchor = this.anchor;
+        selectRange(Math.min(anchor, index), Math.max(anchor, index) + 1);
+        selectedIndex.set(index);
+    }
+
+    /**
+     * Selects the items shown between the anchor and the given item, like a shift click with a filter or sort
+     * order, and deselects all others. Selects only the given item if there is no anchor or it is not shown.
+     *
+     * @param index the index of the item
+     * @param positionOf maps an index to the position it is shown at, -1 if it is not shown
+     * @param indexAt maps a shown position to its index
+     */
+    void selectRangeFromAnchor(int index, IntUnaryOperator positionOf, IntUnaryOperator indexAt) {
+        int anchorPosition = anchor >= 0 ? positionOf.applyAsInt(anchor) : -1;
+        int position = positionOf.applyAsInt(index);
+        if ( anchorPosition < 0 || position < 0 || getSelectionMode() == SelectionMode.SINGLE ) {
+            clearAndSelect(index);
+            return;
+        }
+        clearBits();
+        int itemCount = getItemCount();
+        for ( int p = Math.min(anchorPosition, position); p <= Math.max(anchorPosition, position); p++ ) {
+            int rangeIndex = indexAt.applyAsInt(p);
+            if ( rangeIndex >= 0 && rangeIndex < itemCount ) {
+                bits.set(rangeIndex);
+            }
+        }
+        selectedIndex.set(index);
+        fireInvalidation();
+    }
+
+    /**
+     * Selects all items, if the selection mode is MULTIPLE.
+     */
+    public void selectAll() {
+        if ( getSelectionMode() == SelectionMode.SINGLE ) {
+            return;
+        }
+        bits.clear();
+        inverted = true;
+        fireInvalidation();
+    }
+
+    /**
+     * Deselects an item.
+     *
+     * @param index the index of the item
+     */
+    public void clearSelection(int index) {
+        if ( !isSelected(index) ) {
+            return;
+        }
+        setSelected(index, false);
+        if ( selectedIndex.get() == index ) {
+            selectedIndex.set(-1);
+        }
+        fireInvalidation();
+    }
+
+    /**
+     * Deselects all items.
+     */
+    public void clearSelection() {
+        clearBits();
+        anchor = -1;
+        selectedIndex.set(-1);
+        fireInvalidation();
+    }
+
+    /**
+     * Selects all items that are not selected and deselects all that are, if the selection mode is MULTIPLE.
+     */
+    public void invertSelection() {
+        if ( getSelectionMode() == SelectionMode.SINGLE ) {
+            return;
+        }
+        inverted = !inverted;
+        fireInvalidation();
+    }
+
+    private void setSelected( int index, boolean selected ) {
+        bits.set(index, selected != inverted);
+    }
+
+    private void clearBits() {
+        bits.clear();
+        inverted = false;
+    }
+
+    private int getItemCount() {
+        PaginatedTilesDataSource<T> dataSource = control.getDataSource();
+        return dataSource != null ? dataSource.getItemCount() : control.getItemList().size();
+    }
+
+    /* **********************************************************************
+     *                                                                      *
+     * Item List Changes                                                    *
+     *                                                                      *
+     ***********************************************************************/
+
+    /**
+     * Shifts the selected indices according to a change of the item list. Added items are not selected,
+     * removed items leave the selection.
+     *
+     * @param change the change of the item list
+     */
+    private void onListChange( ListChangeListener.Change<? extends T> change ) {
+        boolean changed = false;
+        while ( change.next() ) {
+            int from = change.getFrom();
+            if ( change.wasPermutated() ) {
+                BitSet permutated = bits.get(from, change.getTo());
+                bits.clear(from, change.getTo());
+                for ( int i = permutated.nextSetBit(0); i >= 0; i = permutated.nextSetBit(i + 1) ) {
+                    bits.set(change.getPermutation(from + i));
+                }
+                anchor = permutate(change, anchor);
+                selectedIndex.set(permutate(change, selectedIndex.get()));
+                changed = true;
+            } else if ( !change.wasUpdated() ) {
+                shift(from, change.getRemovedSize(), change.getAddedSize());
+                anchor = shift(anchor, from, change.getRemovedSize(), change.getAddedSize());
+                selectedIndex.set(shift(selectedIndex.get(), from, change.getRemovedSize(), change.getAddedSize()));
+                changed = true;
+            }
+        }
+        change.reset();
+        if ( changed ) {
+            fireInvalidation();
+        }
+    }
+
+    /**
+     * Replaces the bits of the removed range by unselected bits for the added range and moves the bits behind it.
+     */
+    private void shift( int from, int removed, int added ) {
+        BitSet tail = bits.get(from + removed, Math.max(from + removed, bits.length()));
+        bits.clear(from, Math.max(from, bits.length()));
+        // Move whole runs of selected items, a range selection is a single run
+        int start = tail.nextSetBit(0);
+        while ( start >= 0 ) {
+            int end = tail.nextClearBit(start);
+            bits.set(from + added + start, from + added + end);
+            start = tail.nextSetBit(end);
+        }
+        if ( inverted && added > 0 ) {
+            // Added items are not selected
+            bits.set(from, from + added);
+        }
+    }
+
+    private static int shift( int index, int from, int removed, int added ) {
+        if ( index < from ) {
+            return index;
+        }
+        return index < from + removed ? -1 : index - removed + added;
+    }
+
+    private static int permutate( ListChangeListener.Change<?> change, int index ) {
+        return index >= change.getFrom() && index < change.getTo() ? change.getPermutation(index) : index;
+    }
+
+    /* **********************************************************************
+     *                                                                      *
+     * Observable                                                           *
+     *                                                                      *
+     ***********************************************************************/
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void fireInvalidation() {
+        for ( InvalidationListener listener : new ArrayList<>(listeners) ) {
+            listener.invalidated(this);
+        }
+    }
+
+}
@@ -1,11 +1,33 @@
 package com.github.rjwestman.paginatedTiles;
 
+import com.github.rjwestman.paginatedTiles.PaginatedTilesStatistics.RebuildCause;
 import com.sun.javafx.scene.control.skin.BehaviorSkinBase;
+import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
 import javafx.collections.ListChangeListener;
+import javafx.collections.WeakListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
 import javafx.scene.control.Pagination;
 import javafx.scene.layout.StackPane;
-import javafx.scene.layout.TilePane;
+import javafx.util.Duration;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public class PaginatedTilesSkin<T> extends BehaviorSkinBase<PaginatedTiles<T>, PaginatedTilesBehavior<T>> {
 
@@ -24,6 +46,164 @@ public class PaginatedTilesSkin<T> extends BehaviorSkinBase<PaginatedTiles<T>, P
         if ( getSkinnable().getCellFactory() != null ) {
             createLayout();
         }
+
+        registerChangeListener(getSkinnable().cellFactoryProperty(), "CELL_FACTORY");
+        registerChangeListener(getSkinnable().cellPoolSizeProperty(), "CELL_POOL_SIZE");
+        registerChangeListener(getSkinnable().dataSourceProperty(), "DATA_SOURCE");
+        registerChangeListener(getSkinnable().prefetchRadiusProperty(), "PREFETCH_RADIUS");
+        registerChangeListener(getSkinnable().pageCacheSizeProperty(), "PAGE_CACHE_SIZE");
+        registerChangeListener(getSkinnable().tileWidthProperty(), "TILE_SIZE");
+        registerChangeListener(getSkinnable().tileHeightProperty(), "TILE_SIZE");
+        registerChangeListener(getSkinnable().updatingProperty(), "UPDATING");
+        registerChangeListener(getSkinnable().displayModeProperty(), "DISPLAY_MODE");
+        registerChangeListener(getSkinnable().navigatorModeProperty(), "NAVIGATOR_MODE");
+        registerChangeListener(getSkinnable().statisticsEnabledProperty(), "STATISTICS_ENABLED");
+        registerChangeListener(getSkinnable().filterProperty(), "FILTER_SORT");
+        registerChangeListener(getSkinnable().comparatorProperty(), "FILTER_SORT");
+        registerChangeListener(getSkinnable().highlightedIndexProperty(), "HIGHLIGHTED_INDEX");
+        registerChangeListener(getSkinnable().selectionModelProperty(), "SELECTION_MODEL");
+
+        statistics = getSkinnable().isStatisticsEnabled() ? getSkinnable().getStatistics() : null;
+
+        getSkinnable().itemListProperty().addListener(weakListChangeListener);
+        attachDataSource(getSkinnable().getDataSource());
+        attachSelectionModel(getSkinnable().getSelectionModel());
+        if ( isFilteredOrSorted() ) {
+            updateFilterSortIndex();
+        }
+
+        // Show the item that was requested before the skin existed
+        pendingShowIndex = getSkinnable().requestedIndex;
+        getSkinnable().requestedIndex = -1;
+        pendingShowItem = getSkinnable().requestedItem;
+        pendingShowItemHighlight = getSkinnable().requestedItemHighlight;
+        getSkinnable().requestedItem = null;
+        if ( !filterSortIndex.isComputing() ) {
+            applyPendingShowItem();
+        }
+    }
+
+    private final ListChangeListener<T> listChangeListener = this::onListChange;
+    private final WeakListChangeListener<T> weakListChangeListener = new WeakListChangeListener<>(listChangeListener);
+
+    /**
+     * Removes everything the skin registered on the control, its data source and selection model, stops all timers
+     * and disposes all tile cells, so neither the control nor running background work keep the skin alive.
+     */
+    @Override public void dispose() {
+        if ( getSkinnable() == null ) {
+            // Already disposed
+            return;
+        }
+        getSkinnable().itemListProperty().removeListener(weakListChangeListener);
+        attachDataSource(null);
+        attachSelectionModel(null);
+        filterSortIndex.cancel();
+        cancelNavigation();
+        pageTransitions.finish();
+        if ( resizeDebounce != null ) {
+            resizeDebounce.stop();
+        }
+        if ( detailDelay != null ) {
+            detailDelay.stop();
+        }
+        skeletonUpgrade.stop();
+
+        // Dispose all cells instead of pooling them
+        disposePreparedPages();
+        if ( previousPage != null ) {
+            disposeCells(previousPage);
+            previousPage = null;
+        }
+        if ( currentPage != null ) {
+            disposeCells(currentPage);
+            currentPage = null;
+        }
+        if ( scrollView != null ) {
+            disposeCells(scrollView.getGrid());
+        }
+        clearCellPool();
+        pagination = null;
+        pageNavigator = null;
+        scrollView = null;
+        getChildren().clear();
+
+        super.dispose();
+    }
+
+    @Override protected void handleControlPropertyChanged(String propertyReference) {
+        super.handleControlPropertyChanged(propertyReference);
+
+        if ( "CELL_FACTORY".equals(propertyReference) ) {
+            // Cells of the old factory must not be reused
+            clearCellPool();
+            disposePreparedPages();
+            if ( previousPage != null ) {
+                disposeCells(previousPage);
+                previousPage = null;
+            }
+            if ( scrollView != null ) {
+                disposeCells(scrollView.getGrid());
+                scrollView.reset();
+            }
+            if ( pagination == null && scrollView == null ) {
+                if ( getSkinnable().getCellFactory() != null ) {
+                    createLayout();
+                }
+            } else if ( currentPage != null ) {
+                disposeCells(currentPage);
+                if ( getSkinnable().getCellFactory() != null ) {
+                    fillPage(currentPage, pagination.getCurrentPageIndex(), RebuildCause.CELL_FACTORY);
+                }
+            }
+        } else if ( "CELL_POOL_SIZE".equals(propertyReference) ) {
+            trimCellPool();
+        } else if ( "DATA_SOURCE".equals(propertyReference) ) {
+            clearPreparedPages(0);
+            attachDataSource(getSkinnable().getDataSource());
+            onItemCountChange();
+        } else if ( "PREFETCH_RADIUS".equals(propertyReference) ) {
+            schedulePrefetch();
+        } else if ( "PAGE_CACHE_SIZE".equals(propertyReference) ) {
+            trimPreparedPages(currentPageIndex);
+        } else if ( "TILE_SIZE".equals(propertyReference) ) {
+            if ( scrollView != null ) {
+                scrollView.requestLayout();
+            } else {
+                scheduleResize();
+            }
+        } else if ( "FILTER_SORT".equals(propertyReference) ) {
+            updateFilterSortIndex();
+        } else if ( "HIGHLIGHTED_INDEX".equals(propertyReference) ) {
+            refreshCellStates();
+        } else if ( "SELECTION_MODEL".equals(propertyReference) ) {
+            attachSelectionModel(getSkinnable().getSelectionModel());
+            refreshCellStates();
+        } else if ( "STATISTICS_ENABLED".equals(propertyReference) ) {
+            statistics = getSkinnable().isStatisticsEnabled() ? getSkinnable().getStatistics() : null;
+        } else if ( "DISPLAY_MODE".equals(propertyReference) ) {
+            if ( pagination != null || scrollView != null ) {
+                removeLayout();
+                createLayout();
+            }
+        } else if ( "NAVIGATOR_MODE".equals(propertyReference) ) {
+            if ( pagination != null ) {
+                removeLayout();
+                createLayout();
+            }
+        } else if ( "UPDATING".equals(propertyReference) ) {
+            if ( !getSkinnable().isUpdating() ) {
+                // Reconcile everything that happened during the batch update at once
+                if ( pendingItemCountChange ) {
+                    onItemCountChange();
+                }
+                if ( pendingIndexUpdate ) {
+                    pendingIndexUpdate = false;
+                    updateFilterSortIndex();
+                }
+                applyListChanges();
+            }
+        }
     }
 
     /* **********************************************************************
@@ -32,22 +212,144 @@ public class PaginatedTilesSkin<T> extends BehaviorSkinBase<PaginatedTiles<T>, P
      *                                                                      *
      ***********************************************************************/
 
+    /** Navigation requests that follow each other closer than this are coalesced */
+    private static final Duration NAVIGATION_SETTLE_DELAY = Duration.millis(120);
+
+    /** The page index navigation is heading to, -1 if no navigation is pending */
+    private int targetPageIndex = -1;
+    private PauseTransition navigationSettle;
+    /** Set while applyNavigation moves the pagination, so the page change does not cancel the navigation */
+    private boolean applyingNavigation;
+
     /**
      * Changes the pagination page to the next one if possible.
+     * In the scrolling display mode it scrolls down by the height of the view.
      */
     public void selectNext() {
-        if ( pagination.getCurrentPageIndex() < pagination.getPageCount() - 1) {
-            pagination.setCurrentPageIndex(pagination.getCurrentPageIndex() + 1);
-        }
+        selectBy(1);
     }
 
     /**
      * Changes the pagination page to the previous one if possible.
+     * In the scrolling display mode it scrolls up by the height of the view.
      */
     public void selectPrevious() {
-        if ( pagination.getCurrentPageIndex() > 0) {
-            pagination.setCurrentPageIndex(pagination.getCurrentPageIndex() -1);
+        selectBy(-1);
+    }
+
+    /**
+     * Moves the given number of pages forward or backward, as far as possible.
+     * In the scrolling display mode it scrolls by the height of the view as often.
+     *
+     * @param pages the number of pages to move, negative values move backward
+     */
+    public void selectBy( int pages ) {
+        selectBy(pages, false);
+    }
+
+    /**
+     * Moves the given number of pages forward or backward, see selectBy(int).
+     *
+     * @param pages the number of pages to move, negative values move backward
+     * @param immediate true to move right away instead of coalescing with other navigation requests
+     */
+    void selectBy( int pages, boolean immediate ) {
+        if ( scrollView != null ) {
+            scrollView.scrollPage(pages);
+        } else if ( pagination != null ) {
+            int pageIndex = targetPageIndex >= 0 ? targetPageIndex : pagination.getCurrentPageIndex();
+            selectPage((int) Math.max(0, Math.min(Integer.MAX_VALUE, (long) pageIndex + pages)), immediate);
+        }
+    }
+
+    /**
+     * Changes the pagination page to the first one, or scrolls to the top in the scrolling display mode.
+     */
+    public void selectFirst() {
+        if ( scrollView != null ) {
+            scrollView.scrollToIndex(0);
+        } else if ( pagination != null ) {
+            navigateTo(0);
+        }
+    }
+
+    /**
+     * Changes the pagination page to the last one, or scrolls to the bottom in the scrolling display mode.
+     */
+    public void selectLast() {
+        if ( scrollView != null ) {
+            scrollView.scrollToIndex(Math.max(0, getViewSize() - 1));
+        } else if ( pagination != null ) {
+            navigateTo(pagination.getPageCount() - 1);
+        }
+    }
+
+    /**
+     * Changes the pagination page to the given one, or to the first or last page if it does not exist.
+     *
+     * @param pageIndex the index of the page to move to
+     */
+    public void selectPage( int pageIndex ) {
+        selectPage(pageIndex, false);
+    }
+
+    /**
+     * Changes the pagination page to the given one, see selectPage(int).
+     *
+     * @param pageIndex the index of the page to move to
+     * @param immediate true to move right away instead of coalescing with other navigation requests
+     */
+    void selectPage( int pageIndex, boolean immediate ) {
+        if ( pagination == null ) {
+            return;
+        }
+        pageIndex = Math.max(0, Math.min(pagination.getPageCount() - 1, pageIndex));
+        if ( immediate ) {
+            cancelNavigation();
+            pagination.setCurrentPageIndex(pageIndex);
+        } else {
+            navigateTo(pageIndex);
+        }
+    }
+
+    /**
+     * Moves the pagination to a page. The first request after a quiet period is applied right away, requests
+     * that follow in quick succession (e.g. of a held key) only move the target page. The pagination moves there
+     * once the requests settle, so the pages in between are never built.
+     *
+     * @param pageIndex the index of the page to move to
+     */
+    private void navigateTo( int pageIndex ) {
+        if ( navigationSettle == null ) {
+            navigationSettle = new PauseTransition(NAVIGATION_SETTLE_DELAY);
+            navigationSettle.setOnFinished( event -> applyNavigation() );
+        }
+        boolean settling = navigationSettle.getStatus() == Animation.Status.RUNNING;
+        targetPageIndex = pageIndex;
+        if ( !settling ) {
+            applyNavigation();
+        }
+        navigationSettle.playFromStart();
+    }
+
+    private void applyNavigation() {
+        if ( targetPageIndex >= 0 && pagination != null ) {
+            applyingNavigation = true;
+            pagination.setCurrentPageIndex(Math.min(targetPageIndex, pagination.getPageCount() - 1));
+            applyingNavigation = false;
+        }
+        targetPageIndex = -1;
+    }
+
+    /**
+     * Drops a pending navigation, so a page that was set in another way (e.g. by showIndex or the page
+     * indicators of the pagination) is not overridden once the navigation requests settle.
+     */
+    private void cancelNavigation() {
+        if ( navigationSettle != null ) {
+            navigationSettle.stop();
         }
+        targetPageIndex = -1;
     }
 
     /* **********************************************************************
@@ -57,26 +359,135 @@ public class PaginatedTilesSkin<T> extends BehaviorSkinBase<PaginatedTiles<T>, P
      ***********************************************************************/
 
     private Pagination pagination;
+    /** The navigator that replaces the page indicators of the pagination, null if they are used */
+    private PageNavigator pageNavigator;
+    private TileScrollView<T> scrollView;
     private int tilesPerPage;
-    private TilePane currentPage;
+    private int tileCountHorizontal = 1;
+    private int tileCountVertical = 1;
+    private TileGrid currentPage;
+    private int currentPageIndex = -1;
+    /**
+     * The page that was current before the last pageFactory call. Its cells are kept until
+     * the next page is built, so the Pagination page transition still shows them.
+     */
+    private TileGrid previousPage;
+    private int previousPageIndex = -1;
+
+    // Item list changes that were not applied yet, see onListChange
+    /** The index of the first changed item, or Integer.MAX_VALUE if there are no changes */
+    private int pendingChangeFrom = Integer.MAX_VALUE;
+    private boolean pendingPageAffected;
+    /**
+     * Items on the page whose cells have to be rebound even if the item instance did not change. Kept by identity,
+     * not by page position, so later insertions or removals of the same batch do not make them point to other cells.
+     */
+    private final Set<T> pendingForcedItems = Collections.newSetFromMap(new IdentityHashMap<>());
+    /** The index from which items were shifted by insertions or removals, or Integer.MAX_VALUE */
+    private int pendingShiftFrom = Integer.MAX_VALUE;
+    /** Indices of the pages whose items were replaced, updated or permutated without shifting */
+    private final BitSet pendingDirtyPages = new BitSet();
+    private boolean pendingItemCountChange;
+    private boolean pendingIndexUpdate;
+    // The last applied item list change, for the flight recorder events
+    private int lastChangeFrom;
+    private boolean lastChangeAffectedPage;
+
+    /** The reason for the next pageFactory call, see setPageCount */
+    private RebuildCause pageFactoryCause = RebuildCause.PAGE_CHANGE;
+    /** The statistics of the control, null while they are disabled */
+    private PaginatedTilesStatistics statistics;
+    private final PageTransitionAnimator pageTransitions = new PageTransitionAnimator();
 
     /**
      * Creates the base layout of this control, which is basically only a pagination.
      * Because making the public pagination methods accessible does not make sense
-     * for this control it was not extended, but used
+     * for this control it was not extended, but used.
+     * In the scrolling display mode the pagination is replaced by a TileScrollView.
+     * With the scrub bar navigator the page indicators of the pagination are hidden and the navigator is
+     * shown below it.
      */
     private void createLayout() {
-        pagination = new Pagination();
-        pagination.setPageFactory(this::pageFactory);
+        if ( getSkinnable().getDisplayMode() == PaginatedTiles.DisplayMode.SCROLLING ) {
+            scrollView = new TileScrollView<>(this);
+            getChildren().add(scrollView);
+            applyPendingShowIndex();
+        } else {
+            pagination = new Pagination();
+            pagination.setPageFactory(this::pageFactory);
+            pagination.currentPageIndexProperty().addListener( observable -> {
+                if ( !applyingNavigation ) {
+                    cancelNavigation();
+                }
+            });
+            getChildren().add(pagination);
+            if ( getSkinnable().getNavigatorMode() == PaginatedTiles.NavigatorMode.SCRUB_BAR ) {
+                // The hidden indicators are still rebuilt on page count changes, keep them down to one button
+                pagination.getStyleClass().add("scrub-navigator");
+                pagination.setMaxPageIndicatorCount(1);
+                pageNavigator = new PageNavigator(this, pagination);
+                getChildren().add(pageNavigator);
+            }
+        }
+    }
 
-        getSkinnable().itemListProperty().addListener( (ListChangeListener<T>) listener -> onListChange());
+    /**
+     * Lays out the pagination above the page navigator, if there is one. The pagination is laid out right away,
+     * so the size of its page container is known, and the current page is resized for it from here. Changing
+     * the pagination from within the layout pass of its own page container would leave its layout outdated.
+     */
+    @Override protected void layoutChildren( double contentX, double contentY, double contentWidth, double contentHeight ) {
+        if ( pageNavigator == null ) {
+            super.layoutChildren(contentX, contentY, contentWidth, contentHeight);
+        } else {
+            double navigatorHeight = Math.min(contentHeight, snapSize(pageNavigator.prefHeight(contentWidth)));
+            pagination.resizeRelocate(contentX, contentY, contentWidth, contentHeight - navigatorHeight);
+            pageNavigator.resizeRelocate(contentX, contentY + contentHeight - navigatorHeight, contentWidth, navigatorHeight);
+        }
+        if ( pagination != null ) {
+            pagination.layout();
+            if ( applyPageContainerSize() ) {
+                // Lay out the page count and the page that were changed for the new size in the same pulse
+                pagination.layout();
+            }
+        }
+    }
 
-        getChildren().add(pagination);
+    /**
+     * Removes the base layout and recycles all of its cells, e.g. before the display mode changes.
+     */
+    private void removeLayout() {
+        cancelNavigation();
+        pageTransitions.finish();
+        cancelPageLoad();
+        clearPreparedPages(0);
+        clearPendingListChanges();
+        if ( previousPage != null ) {
+            releaseCells(previousPage);
+            previousPage = null;
+            previousPageIndex = -1;
+        }
+        if ( currentPage != null ) {
+            releaseCells(currentPage);
+            currentPage = null;
+            currentPageIndex = -1;
+        }
+        if ( scrollView != null ) {
+            scrollView.reset();
+        }
+        pagination = null;
+        pageNavigator = null;
+        scrollView = null;
+        tilesPerPage = 0;
+        stalePositions.clear();
+        pageContainerWidth = pageContainerHeight = 0;
+        pageContainerResized = false;
+        getChildren().clear();
     }
 
     /**
      * The page factory for the pagination control used in PaginatedTiles.
-     * Pages consist of a page-container (StackPane) and the page itself (Tile-Pane), to allow
+     * Pages consist of a page-container (StackPane) and the page itself (TileGrid), to allow
      * for more flexible alignment options. The css property for the page-container is "page"
      * and for the page it is "tile-pane".
      * Page creation / rebuild is initiated in 3 ways: Initial call, resizing, item list changes
@@ -85,44 +496,179 @@ public class PaginatedTilesSkin<T> extends BehaviorSkinBase<PaginatedTiles<T>, P
      * @return returns the built page
      */
     private StackPane pageFactory(int pageIndex ) {
+        if ( currentPage != null && pageIndex == currentPageIndex ) {
+            // Pagination asks again for the page it shows, e.g. because the page count changed.
+            // The page was brought up to date before, see setPageCount
+            return (StackPane) currentPage.getParent();
+        }
 
-        // init page
-        TilePane page = new TilePane();
-        page.getStyleClass().add("tile-pane");
+        Object event = PaginatedTilesEvents.get().beginPageFactory();
+        RebuildCause cause = pageFactoryCause;
+        pageFactoryCause = RebuildCause.PAGE_CHANGE;
+
+        // Capture the outgoing page before it is replaced, if the page flip is animated
+        PaginatedTiles.PageTransition transition = getSkinnable().getPageTransition();
+        int oldPageIndex = currentPageIndex;
+        pageTransitions.finish();
+        boolean animate = transition != null && transition != PaginatedTiles.PageTransition.NONE
+                && cause == RebuildCause.PAGE_CHANGE && currentPage != null && pageIndex != currentPageIndex
+                && currentPage.getParent() instanceof StackPane
+                && pageTransitions.capture((StackPane) currentPage.getParent());
+
+        // Keep the page that is no longer visible for prefetching or recycle its cells
+        if ( previousPage != null && !keepAsPreparedPage(previousPage, previousPageIndex, pageIndex) ) {
+            releaseCells(previousPage);
+        }
+        previousPage = currentPage;
+        previousPageIndex = currentPageIndex;
+
+        // The page is built from the current item list, changes collected for the old page do not apply
+        pendingPageAffected = false;
+        pendingForcedItems.clear();
+
+        // Flipping pages faster than the detail delay fills the pages with skeleton cells
+        if ( cause == RebuildCause.PAGE_CHANGE ) {
+            long now = System.nanoTime();
+            fillSkeletons = isLevelOfDetailEnabled() && now - lastPageChangeTime < getDetailDelayNanos();
+            lastPageChangeTime = now;
+        }
+
+        // Use the prefetched page if there is one
+        TileGrid page = preparedPages.remove(pageIndex);
+        boolean prefetched = page != null;
+        if ( page == null ) {
+            page = createPage(pageIndex, cause);
+        }
+        fillSkeletons = false;
         currentPage = page;
+        currentPageIndex = pageIndex;
+        if ( prefetched ) {
+            // The highlighted index and items may have changed since the page was prepared
+            refreshStaleCells(page, pageIndex);
+            updateCellStates(page, pageIndex * tilesPerPage);
+        }
+
+        if ( animate ) {
+            pageTransitions.play((StackPane) page.getParent(), page, transition, pageIndex > oldPageIndex ? 1 : -1);
+        }
+
+        // Prefetch the surrounding pages after the page was shown
+        schedulePrefetch();
+        scheduleDetailUpgrade();
+
+        PaginatedTilesEvents.get().commitPageFactory(event, pageIndex, tilesPerPage, prefetched, cause.name());
+        return (StackPane) page.getParent();
+    }
+
+    /**
+     * Creates a page and its page-container and fills it with the tile cells of the given page index.
+     *
+     * @param pageIndex the index of the page
+     * @param cause the reason the page is built
+     * @return the page, whose parent is the page-container
+     */
+    private TileGrid createPage( int pageIndex, RebuildCause cause ) {
 
-        // init pageContainer
-        StackPane pageContainer = new StackPane(page);
+        // init page
+        TileGrid page = new TileGrid();
+        page.setGridSize(getSkinnable().getTileWidth(), getSkinnable().getTileHeight(), tileCountHorizontal, tileCountVertical);
 
-        // sizeListeners
-        registerSizeListeners(pageContainer,page);
+        // init pageContainer, it reports a change of its size in every layout pass
+        StackPane pageContainer = new StackPane(page) {
+            @Override protected void layoutChildren() {
+                onPageContainerLayout(this, page);
+                super.layoutChildren();
+            }
+        };
 
         // Fill page
         if ( tilesPerPage != 0 ) {
-            fillPage(page,pageIndex);
+            fillPage(page, pageIndex, cause);
         }
 
-        Platform.runLater( () -> {
-        });
+        return page;
+    }
+
+    // The size of the current page container the page was last sized for
+    private double pageContainerWidth;
+    private double pageContainerHeight;
+    /** Set when the current page container was laid out with another size, see applyPageContainerSize */
+    private boolean pageContainerResized;
+    private PauseTransition resizeDebounce;
+
+    /**
+     * Gets called in every layout pass of a page container, with its final size and before its page is laid out.
+     * Only notes that the size of the current page container changed, the pagination must not be changed
+     * from within its layout pass.
+     *
+     * @param pageContainer the page container
+     * @param page its page
+     */
+    private void onPageContainerLayout( StackPane pageContainer, TileGrid page ) {
+        if ( page == currentPage && (tilesPerPage == 0
+                || pageContainer.getWidth() != pageContainerWidth || pageContainer.getHeight() != pageContainerHeight) ) {
+            pageContainerResized = true;
+        }
+    }
 
-        return  pageContainer;
+    /**
+     * Resizes the current page if its page container was laid out with another size, called from layoutChildren
+     * once the pagination is laid out. The first page is built for the right number of tiles in the pulse
+     * it is shown in.
+     *
+     * @return true, if the page was resized right away
+     */
+    private boolean applyPageContainerSize() {
+        if ( !pageContainerResized ) {
+            return false;
+        }
+        pageContainerResized = false;
+        if ( currentPage == null || !(currentPage.getParent() instanceof StackPane) ) {
+            return false;
+        }
+        StackPane pageContainer = (StackPane) currentPage.getParent();
+        double width = pageContainer.getWidth();
+        double height = pageContainer.getHeight();
+        if ( width == 0 || height == 0
+                || (tilesPerPage != 0 && width == pageContainerWidth && height == pageContainerHeight) ) {
+            return false;
+        }
+        pageContainerWidth = width;
+        pageContainerHeight = height;
+        return scheduleResize();
     }
 
     /**
-     * Registers listeners to the size properties of the pageContainer, that call the onResize method.
-     * @param pageContainer the pageContainer of the page
+     * Resizes the current page right away, or once after the resize delay, if one is set and the page was sized before.
+     *
+     * @return true, if the page was resized right away
      */
-    private void registerSizeListeners( StackPane pageContainer, TilePane page ) {
-        pageContainer.heightProperty().addListener( observable -> {
-            if (pageContainer.getWidth() != 0 && pageContainer.getHeight() != 0) {
-                onResize(pageContainer, page);
+    private boolean scheduleResize() {
+        Duration resizeDelay = getSkinnable().getResizeDelay();
+        if ( tilesPerPage != 0 && resizeDelay != null && resizeDelay.greaterThan(Duration.ZERO) ) {
+            if ( resizeDebounce == null ) {
+                resizeDebounce = new PauseTransition();
+                resizeDebounce.setOnFinished( event -> resizeCurrentPage() );
             }
-        });
-        pageContainer.widthProperty().addListener( observable -> {
-            if (pageContainer.getWidth() != 0 && pageContainer.getHeight() != 0) {
-                onResize(pageContainer, page);
-            }
-        });
+            resizeDebounce.setDuration(resizeDelay);
+            resizeDebounce.playFromStart();
+            return false;
+        }
+        resizeCurrentPage();
+        return true;
+    }
+
+    /**
+     * Calls onResize for the current page with its current size.
+     */
+    private void resizeCurrentPage() {
+        if ( currentPage == null || !(currentPage.getParent() instanceof StackPane) ) {
+            return;
+        }
+        StackPane pageContainer = (StackPane) currentPage.getParent();
+        if ( pageContainer.getWidth() != 0 && pageContainer.getHeight() != 0 ) {
+            onResize(pageContainer, currentPage);
+        }
     }
 
     /**
@@ -130,15 +676,129 @@ public class PaginatedTilesSkin<T> extends BehaviorSkinBase<PaginatedTiles<T>, P
      *
      * @param page the page that is to be filled
      * @param pageIndex the index of the page - used to add the correct set of tile cells
+     * @param cause the reason the page is filled, for the statistics
      */
-    private void fillPage( TilePane page, int pageIndex ) {
+    private void fillPage( TileGrid page, int pageIndex, RebuildCause cause ) {
+        long startTime = statistics != null ? System.nanoTime() : 0;
         int startIndex = pageIndex * tilesPerPage;
-        int endIndex = Math.min( getSkinnable().getItemList().size(), startIndex+tilesPerPage);
-        for ( int i = startIndex; i < endIndex; i++ ) {
-            PaginatedTilesCell<T> paginatedTilesCell = getSkinnable().getCellFactory().call(getSkinnable());
-            paginatedTilesCell.updateCell(getSkinnable().getItemList().get(i));
-            page.getChildren().add(paginatedTilesCell);
+        int endIndex = Math.min( getItemCount(), startIndex+tilesPerPage);
+        PaginatedTilesDataSource<T> dataSource = getSkinnable().getDataSource();
+
+        if ( dataSource != null ) {
+            cancelPageLoad();
+        }
+        stalePositions.clear(startIndex, startIndex + tilesPerPage);
+        page.getChildren().addAll(createCells(page, startIndex, endIndex));
+        if ( dataSource != null && startIndex < endIndex ) {
+            // Show pending cells right away and bind them once the items are loaded
+            loadPage(dataSource, page, startIndex, endIndex - startIndex);
+        }
+        updateCellStates(page, startIndex);
+
+        if ( statistics != null ) {
+            statistics.recordPageBuild(cause, System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Creates the tile cells for the positions [from, to) of a page. With a data source the cells are pending
+     * until their items are loaded, otherwise they are bound to their items, or as skeletons if level of detail
+     * is enabled and the page is filled while flipping quickly or the frame budget is used up.
+     *
+     * @param page the page the cells are added to
+     * @param from the position of the first cell
+     * @param to the position behind the last cell
+     * @return the cells, in page order
+     */
+    private List<PaginatedTilesCell<T>> createCells( TileGrid page, int from, int to ) {
+        List<PaginatedTilesCell<T>> cells = new ArrayList<>(Math.max(0, to - from));
+        if ( getSkinnable().getDataSource() != null ) {
+            for ( int i = from; i < to; i++ ) {
+                PaginatedTilesCell<T> paginatedTilesCell = obtainCell();
+                paginatedTilesCell.bindPending();
+                cells.add(paginatedTilesCell);
+            }
+            return cells;
+        }
+
+        boolean levelOfDetail = isLevelOfDetailEnabled();
+        boolean skeletons = fillSkeletons;
+        long fillStartTime = levelOfDetail ? System.nanoTime() : 0;
+        for ( int i = from; i < to; i++ ) {
+            PaginatedTilesCell<T> paginatedTilesCell = obtainCell();
+            if ( !skeletons && levelOfDetail && System.nanoTime() - fillStartTime > FRAME_BUDGET_NANOS ) {
+                skeletons = true;
+            }
+            if ( skeletons ) {
+                paginatedTilesCell.bindSkeleton(getViewItem(i));
+            } else {
+                paginatedTilesCell.bindItem(getViewItem(i), getSkinnable().getBackgroundExecutor());
+            }
+            cells.add(paginatedTilesCell);
+        }
+        if ( skeletons && page == currentPage ) {
+            scheduleDetailUpgrade();
+        }
+        return cells;
+    }
+
+    /**
+     * Returns the number of data items, either of the data source or of the item list.
+     *
+     * @return the total number of data items
+     */
+    private int getItemCount() {
+        PaginatedTilesDataSource<T> dataSource = getSkinnable().getDataSource();
+        return dataSource != null ? dataSource.getItemCount() : getViewSize();
+    }
+
+    /**
+     * Returns the number of items of the item list that are shown, i.e. that pass the filter.
+     *
+     * @return the number of shown items
+     */
+    int getViewSize() {
+        return filterSortIndex.size(getSkinnable().getItemList());
+    }
+
+    /**
+     * Returns the item of the item list that is shown at the given position, considering filter and sort order.
+     *
+     * @param position the position among the shown items
+     * @return the item at that position
+     */
+    T getViewItem( int position ) {
+        return filterSortIndex.get(getSkinnable().getItemList(), position);
+    }
+
+    /**
+     * Recycles all tile cells of the current page and fills it again.
+     *
+     * @param cause the reason the page is rebuilt
+     */
+    private void rebuildCurrentPage( RebuildCause cause ) {
+        releaseCells(currentPage);
+        fillPage(currentPage, pagination.getCurrentPageIndex(), cause);
+    }
+
+    /**
+     * Sets the page count of the pagination. Pagination calls the pageFactory again for the page it shows.
+     * If that is still the current page, it is brought up to date first and handed back by the pageFactory
+     * as it is, so the page is built once. Otherwise (the current page is behind the new page count)
+     * the pageFactory builds the page Pagination moves to.
+     *
+     * @param pageCount the new page count
+     * @param cause the reason the page count changes, for the statistics
+     * @param updateCurrentPage brings the current page up to date, may be null if it is up to date
+     */
+    private void setPageCount( int pageCount, RebuildCause cause, Runnable updateCurrentPage ) {
+        if ( updateCurrentPage != null && pagination.getCurrentPageIndex() < pageCount ) {
+            updateCurrentPage.run();
         }
+        pageFactoryCause = cause;
+        pagination.setPageCount(pageCount);
+        pageFactoryCause = RebuildCause.PAGE_CHANGE;
+        applyPendingShowIndex();
     }
 
     /**
@@ -148,7 +808,9 @@ public class PaginatedTilesSkin<T> extends BehaviorSkinBase<PaginatedTiles<T>, P
      *
      * @param pageContainer the pageContainer of a page
      */
-    private void onResize( StackPane pageContainer, TilePane page ) {
+    private void onResize( StackPane pageContainer, TileGrid page ) {
+        Object event = PaginatedTilesEvents.get().beginResize();
+        int oldTilesPerPage = this.tilesPerPage;
         int tileCountHorizontal = 1;
         int tileCountVertical = 1;
         int tilesPerPage;
@@ -166,46 +828,1297 @@ public class PaginatedTilesSkin<T> extends BehaviorSkinBase<PaginatedTiles<T>, P
         tilesPerPage = ( tilesPerPage == 0 ) ? 1 : tilesPerPage;
 
         // Calc pageCount
-        pageCount = getSkinnable().getItemList().size() / tilesPerPage + 1;
+        pageCount = getItemCount() / tilesPerPage + 1;
 
-        // Set page width to allow alignment using the pageContainer
-        page.setMinWidth( (tileWidth * tileCountHorizontal) + (tileHGap * (tileCountHorizontal-1)) );
-        page.setMaxWidth( (tileWidth * tileCountHorizontal) + (tileHGap * (tileCountHorizontal-1)) );
-        page.setMinHeight( (tileHeight * tileCountVertical) + (tileVGap * (tileCountVertical-1)) );
-        page.setMaxHeight( (tileHeight * tileCountVertical) + (tileVGap * (tileCountVertical-1)) );
+        // Size the grid, the pageContainer aligns it
+        this.tileCountHorizontal = tileCountHorizontal;
+        this.tileCountVertical = tileCountVertical;
+        page.setGridSize(tileWidth, tileHeight, tileCountHorizontal, tileCountVertical);
 
-        if ( pagination.getPageCount() != pageCount ) {
-            this.tilesPerPage = tilesPerPage;
-            Platform.runLater( () -> {
-                // This will recall the pageFactory - no further rebuilding of current page needed
-                pagination.setPageCount(pageCount);
-            });
-        } else if ( this.tilesPerPage != tilesPerPage ){
-            // If item count changed, rebuild the page
+        boolean tilesPerPageChanged = this.tilesPerPage != tilesPerPage;
+        if ( tilesPerPageChanged ) {
+            // Prefetched pages were built for the old tile count
+            clearPreparedPages(0);
+            stalePositions.clear();
             this.tilesPerPage = tilesPerPage;
-            currentPage.getChildren().clear();
-            fillPage(currentPage, pagination.getCurrentPageIndex());
+            reflowCurrentPage(oldTilesPerPage, pageCount);
+            schedulePrefetch();
+        } else if ( pagination.getPageCount() != pageCount ) {
+            setPageCount(pageCount, RebuildCause.RESIZE, null);
+        }
+        applyPendingShowIndex();
+
+        PaginatedTilesEvents.get().commitResize(event, oldTilesPerPage, tilesPerPage, pageCount);
+    }
+
+    /**
+     * Moves the current page to the page that holds its first item (the anchor) with the new number of tiles
+     * per page, so the user keeps their place while the control is resized. The cells of items that stay on
+     * the page are kept, cells are only created or recycled at the start and the end of the page.
+     *
+     * @param oldTilesPerPage the number of tiles the current page was filled for, 0 if it was not filled yet
+     * @param pageCount the page count for the new number of tiles per page
+     */
+    private void reflowCurrentPage( int oldTilesPerPage, int pageCount ) {
+        int oldPageIndex = pagination.getCurrentPageIndex();
+        int oldStartIndex = oldPageIndex * oldTilesPerPage;
+        int pageIndex;
+        if ( oldTilesPerPage != 0 ) {
+            pageIndex = oldStartIndex / tilesPerPage;
+        } else if ( pendingShowIndex >= 0 ) {
+            // The first fill goes straight to the page of the position that waited to be shown
+            pageIndex = Math.min(pendingShowIndex / tilesPerPage, pageCount - 1);
+            pendingShowIndex = -1;
+        } else {
+            pageIndex = Math.min(oldPageIndex, pageCount - 1);
+        }
+
+        // Pagination calls the pageFactory for the pages it moves to, which hands back the reflowed page
+        pageFactoryCause = RebuildCause.RESIZE;
+        if ( pageIndex < pagination.getPageCount() ) {
+            reflowPage(currentPage, oldStartIndex, pageIndex);
+            pagination.setCurrentPageIndex(pageIndex);
+            pagination.setPageCount(pageCount);
+        } else {
+            // The page index only exists with the new page count
+            pagination.setPageCount(pageCount);
+            reflowPage(currentPage, oldStartIndex, pageIndex);
+            pagination.setCurrentPageIndex(pageIndex);
+        }
+        pageFactoryCause = RebuildCause.PAGE_CHANGE;
+    }
+
+    /**
+     * Turns the current page into the page with the given index. Cells of items that are on the page before
+     * and after are kept, the others are recycled and cells for the items that entered the page are added.
+     *
+     * @param page the current page
+     * @param oldStartIndex the position of the first cell of the page
+     * @param pageIndex the index of the page it becomes
+     */
+    private void reflowPage( TileGrid page, int oldStartIndex, int pageIndex ) {
+        long startTime = statistics != null ? System.nanoTime() : 0;
+        ObservableList<Node> children = page.getChildren();
+        int startIndex = pageIndex * tilesPerPage;
+        int endIndex = Math.min(getItemCount(), startIndex + tilesPerPage);
+        int keepFrom = Math.max(oldStartIndex, startIndex);
+        int keepTo = Math.min(oldStartIndex + children.size(), endIndex);
+
+        // Recycle the cells of the items that left the page
+        if ( keepFrom < keepTo ) {
+            releaseCells(page, keepTo - oldStartIndex, children.size());
+            releaseCells(page, 0, keepFrom - oldStartIndex);
+        } else {
+            releaseCells(page);
+            keepFrom = keepTo = startIndex;
+        }
+
+        // Add cells for the items that entered the page
+        PaginatedTilesDataSource<T> dataSource = getSkinnable().getDataSource();
+        boolean cellsAdded = startIndex < keepFrom || keepTo < endIndex;
+        if ( dataSource != null && (cellsAdded || pageLoad != null) ) {
+            cancelPageLoad();
+        }
+        if ( startIndex < keepFrom ) {
+            children.addAll(0, createCells(page, startIndex, keepFrom));
+        }
+        if ( keepTo < endIndex ) {
+            children.addAll(createCells(page, keepTo, endIndex));
+        }
+        if ( dataSource != null && pageLoad == null && hasPendingCells(page) ) {
+            // Loads the whole page, only the pending cells are bound
+            loadPage(dataSource, page, startIndex, endIndex - startIndex);
+        }
+        currentPageIndex = pageIndex;
+        updateCellStates(page, startIndex);
+
+        if ( statistics != null ) {
+            statistics.recordPageBuild(RebuildCause.RESIZE, System.nanoTime() - startTime);
         }
     }
 
     /**
      * Gets called when the list of data that is represented by the tile cells changes.
-     * If the pageCount changes because of this, it sets the page count (which will make
-     * the page factory be called again by Pagination), else it rebuilds the current page.
+     * The change ranges are compared with the item range of the current page and collected.
+     * Unless the control is in a batch update, the collected changes are applied right away.
+     *
+     * @param change the change of the item list
      */
-    private void onListChange() {
-        int pageCount;
+    private void onListChange( ListChangeListener.Change<? extends T> change ) {
+        Object event = PaginatedTilesEvents.get().beginListChange();
+        try {
+            itemPositions.onListChange(change);
+            if ( filterSortIndex.onListChange(change) ) {
+                scheduleFilterSortUpdate();
+            }
+            collectListChange(change);
+        } finally {
+            if ( event != null ) {
+                PaginatedTilesEvents.get().commitListChange(event, getSkinnable().getItemList().size(),
+                        pendingChangeFrom == Integer.MAX_VALUE ? lastChangeFrom : pendingChangeFrom,
+                        pendingPageAffected || lastChangeAffectedPage, getSkinnable().isUpdating());
+            }
+        }
+    }
 
-        pageCount = getSkinnable().getItemList().size() / tilesPerPage + 1;
+    /**
+     * Compares the change ranges with the item range of the current page and collects them.
+     * Unless the control is in a batch update, the collected changes are applied right away.
+     *
+     * @param change the change of the item list
+     */
+    private void collectListChange( ListChangeListener.Change<? extends T> change ) {
+        if ( getSkinnable().getDataSource() != null ) {
+            // The item list is not used while a data source is set
+            return;
+        }
+        if ( refreshUpdatedItems(change) ) {
+            return;
+        }
+        if ( isFilteredOrSorted() ) {
+            // Updated items were already filtered and sorted in again, their cells are rebound even if they stay
+            // on the current page
+            while ( change.next() ) {
+                if ( change.wasUpdated() ) {
+                    pendingForcedItems.addAll(change.getList().subList(change.getFrom(), change.getTo()));
+                }
+            }
+            change.reset();
+            // The shown positions were already adjusted to the change, it is handled like a change of the whole
+            // item list, so only cells of items that are new on the current page are bound
+            pendingChangeFrom = 0;
+            pendingShiftFrom = 0;
+            pendingPageAffected = true;
+            if ( !getSkinnable().isUpdating() ) {
+                applyListChanges();
+            }
+            return;
+        }
+        if ( scrollView != null ) {
+            // The scroll view only needs to know where the changes start
+            if ( change.next() ) {
+                pendingChangeFrom = Math.min(pendingChangeFrom, change.getFrom());
+            }
+            if ( !getSkinnable().isUpdating() ) {
+                applyListChanges();
+            }
+            return;
+        }
+        if ( tilesPerPage == 0 || currentPage == null ) {
+            // Nothing was built yet, the first resize takes care of it
+            return;
+        }
 
-        if ( pagination.getPageCount() != pageCount ) {
-            Platform.runLater( () -> {
-                // This will recall the pageFactory - no further rebuilding of current page needed
-                pagination.setPageCount(pageCount);
-            });
-        } else if ( currentPage != null ){
-            currentPage.getChildren().clear();
-            fillPage(currentPage, pagination.getCurrentPageIndex());
+        int startIndex = pagination.getCurrentPageIndex() * tilesPerPage;
+        int endIndex = startIndex + tilesPerPage;
+
+        while ( change.next() ) {
+            int from = change.getFrom();
+            pendingChangeFrom = Math.min(pendingChangeFrom, from);
+            collectChangedPages(change);
+            if ( from >= endIndex ) {
+                // Behind the page, only of interest for the cached pages
+                continue;
+            }
+            if ( change.wasPermutated() ) {
+                pendingPageAffected |= change.getTo() > startIndex;
+            } else if ( change.wasUpdated() ) {
+                if ( change.getTo() > startIndex ) {
+                    pendingPageAffected = true;
+                    markForcedItems(change.getList(), from, change.getTo(), startIndex, endIndex);
+                }
+            } else if ( change.getAddedSize() != change.getRemovedSize() ) {
+                // Items in front of or on the page are shifted
+                pendingPageAffected = true;
+                if ( change.wasReplaced() ) {
+                    markForcedItems(change.getList(), from, from + change.getAddedSize(), startIndex, endIndex);
+                }
+            } else if ( from + change.getAddedSize() > startIndex ) {
+                // Items on the page were replaced (set)
+                pendingPageAffected = true;
+                markForcedItems(change.getList(), from, from + change.getAddedSize(), startIndex, endIndex);
+            }
+        }
+
+        if ( !getSkinnable().isUpdating() ) {
+            applyListChanges();
+        }
+    }
+
+    /**
+     * Collects the pages whose items are touched by a change, to invalidate the cached pages.
+     *
+     * @param change the change of the item list, positioned at a sub change
+     */
+    private void collectChangedPages( ListChangeListener.Change<? extends T> change ) {
+        int from = change.getFrom();
+        int to;
+        if ( change.wasPermutated() || change.wasUpdated() ) {
+            to = change.getTo();
+        } else if ( change.getAddedSize() == change.getRemovedSize() ) {
+            to = from + change.getAddedSize();
+        } else {
+            // All items behind the change are shifted
+            pendingShiftFrom = Math.min(pendingShiftFrom, from);
+            return;
+        }
+        if ( from < to ) {
+            pendingDirtyPages.set(from / tilesPerPage, (to - 1) / tilesPerPage + 1);
+        }
+    }
+
+    /**
+     * Applies the collected item list changes.
+     * If the pageCount changes because of them, it sets the page count (which will make
+     * the page factory be called again by Pagination). Otherwise only the affected tile cells
+     * of the current page are updated. Changes that do not touch the current page are ignored.
+     */
+    private void applyListChanges() {
+        if ( pendingChangeFrom == Integer.MAX_VALUE ) {
+            return;
+        }
+        int changeFrom = pendingChangeFrom;
+        boolean pageAffected = pendingPageAffected;
+        Set<T> forcedItems = Collections.newSetFromMap(new IdentityHashMap<>());
+        forcedItems.addAll(pendingForcedItems);
+        int shiftFrom = pendingShiftFrom;
+        BitSet dirtyPages = (BitSet) pendingDirtyPages.clone();
+        clearPendingListChanges();
+        lastChangeFrom = changeFrom;
+        lastChangeAffectedPage = pageAffected;
+
+        if ( scrollView != null ) {
+            scrollView.itemsChanged(changeFrom);
+            return;
+        }
+        if ( tilesPerPage == 0 || currentPage == null ) {
+            return;
+        }
+
+        // Prepared pages whose items changed are out of date
+        invalidatePreparedPages(shiftFrom, dirtyPages);
+
+        int pageCount = getViewSize() / tilesPerPage + 1;
+
+        Runnable pageUpdate = pageAffected ? () -> {
+            long startTime = statistics != null ? System.nanoTime() : 0;
+            updateCurrentPage(forcedItems);
+            if ( statistics != null ) {
+                statistics.recordPageBuild(RebuildCause.LIST_CHANGE, System.nanoTime() - startTime);
+            }
+        } : null;
+
+        if ( pagination.getPageCount() != pageCount ) {
+            setPageCount(pageCount, RebuildCause.LIST_CHANGE, pageUpdate);
+        } else if ( pageUpdate != null ) {
+            pageUpdate.run();
+        }
+        schedulePrefetch();
+    }
+
+    /**
+     * Forgets the collected item list changes, e.g. because the current page was built from scratch.
+     */
+    private void clearPendingListChanges() {
+        pendingChangeFrom = Integer.MAX_VALUE;
+        pendingPageAffected = false;
+        pendingForcedItems.clear();
+        pendingShiftFrom = Integer.MAX_VALUE;
+        pendingDirtyPages.clear();
+    }
+
+    /**
+     * Marks the items at the indices [from, to) that lie within [startIndex, endIndex) to be rebound.
+     *
+     * @param itemList the item list after the change, whose indices the sub change refers to
+     */
+    private void markForcedItems( List<? extends T> itemList, int from, int to, int startIndex, int endIndex ) {
+        int last = Math.min(to, endIndex);
+        for ( int i = Math.max(from, startIndex); i < last; i++ ) {
+            pendingForcedItems.add(itemList.get(i));
+        }
+    }
+
+    /**
+     * Brings the cells of the current page in line with the item list. Cells whose item is still on
+     * the page are kept (and moved if necessary), cells of items that left the page are rebound to
+     * the items that entered it. Only cells of new items or forced items are updated.
+     *
+     * @param forcedItems items whose cells have to be rebound in any case
+     */
+    @SuppressWarnings("unchecked")
+    private void updateCurrentPage( Set<T> forcedItems ) {
+        ObservableList<Node> children = currentPage.getChildren();
+        int startIndex = pagination.getCurrentPageIndex() * tilesPerPage;
+        int endIndex = Math.min(getViewSize(), startIndex + tilesPerPage);
+
+        // Find the cells that can stay as they are
+        Map<T, PaginatedTilesCell<T>> cellsByItem = new IdentityHashMap<>();
+        for ( Node node : children ) {
+            PaginatedTilesCell<T> cell = (PaginatedTilesCell<T>) node;
+            cellsByItem.putIfAbsent(cell.getItem(), cell);
+        }
+        List<PaginatedTilesCell<T>> pageCells = new ArrayList<>(Math.max(0, endIndex - startIndex));
+        Set<Node> keptCells = new HashSet<>();
+        for ( int i = startIndex; i < endIndex; i++ ) {
+            T item = getViewItem(i);
+            PaginatedTilesCell<T> cell = cellsByItem.remove(item);
+            if ( cell != null ) {
+                if ( forcedItems.contains(item) ) {
+                    cell.bindItem(item, getSkinnable().getBackgroundExecutor());
+                }
+                keptCells.add(cell);
+            }
+            pageCells.add(cell);
+        }
+
+        // Take the remaining cells off the page
+        Deque<PaginatedTilesCell<T>> unusedCells = new ArrayDeque<>();
+        for ( Node node : children ) {
+            if ( !keptCells.contains(node) ) {
+                unusedCells.add((PaginatedTilesCell<T>) node);
+            }
+        }
+        if ( !unusedCells.isEmpty() ) {
+            children.removeAll(unusedCells);
+        }
+
+        // Bind cells for the items that entered the page
+        for ( int i = 0; i < pageCells.size(); i++ ) {
+            if ( pageCells.get(i) == null ) {
+                PaginatedTilesCell<T> cell = unusedCells.isEmpty() ? obtainCell() : unusedCells.poll();
+                cell.bindItem(getViewItem(startIndex + i), getSkinnable().getBackgroundExecutor());
+                pageCells.set(i, cell);
+            }
+        }
+        for ( PaginatedTilesCell<T> cell : unusedCells ) {
+            releaseCell(cell);
+        }
+
+        // Insert and move cells in place, so untouched cells stay attached
+        for ( int i = 0; i < pageCells.size(); i++ ) {
+            PaginatedTilesCell<T> cell = pageCells.get(i);
+            if ( i < children.size() && children.get(i) == cell ) {
+                continue;
+            }
+            if ( cell.getParent() == currentPage ) {
+                children.remove(cell);
+            }
+            children.add(i, cell);
+        }
+        updateCellStates(currentPage, startIndex);
+    }
+
+    /* **********************************************************************
+     *                                                                      *
+     * Filtering and Sorting                                                *
+     *                                                                      *
+     ***********************************************************************/
+
+    private final FilterSortIndex<T> filterSortIndex = new FilterSortIndex<>(this::onFilterSortIndexChange);
+    private boolean filterSortUpdateScheduled;
+
+    private boolean isFilteredOrSorted() {
+        return getSkinnable().getFilter() != null || getSkinnable().getComparator() != null;
+    }
+
+    /**
+     * Starts recomputing the shown positions in the background. The current positions stay in use until the
+     * computation finished, a computation that is still running is cancelled.
+     */
+    private void updateFilterSortIndex() {
+        filterSortIndex.update(getSkinnable().getItemList(), getSkinnable().getFilter(),
+                getSkinnable().getComparator(), getSkinnable().getBackgroundExecutor());
+        if ( !filterSortIndex.isComputing() ) {
+            applyPendingShowItem();
+        }
+    }
+
+    /**
+     * Recomputes the shown positions once the current pulse is handled, so many changes in a row (or a whole
+     * batch update) start a single computation.
+     */
+    private void scheduleFilterSortUpdate() {
+        if ( getSkinnable().isUpdating() ) {
+            pendingIndexUpdate = true;
+        } else if ( !filterSortUpdateScheduled ) {
+            filterSortUpdateScheduled = true;
+            Platform.runLater( () -> {
+                filterSortUpdateScheduled = false;
+                if ( getSkinnable() != null ) {
+                    updateFilterSortIndex();
+                }
+            });
+        }
+    }
+
+    /**
+     * Gets called when a new mapping of shown positions was swapped in. Handled like a change of the whole
+     * item list, so only cells of items that are new on the current page are bound.
+     */
+    private void onFilterSortIndexChange() {
+        pendingChangeFrom = 0;
+        pendingShiftFrom = 0;
+        pendingPageAffected = true;
+        applyListChanges();
+        applyPendingShowItem();
+    }
+
+    /* **********************************************************************
+     *                                                                      *
+     * Showing Items                                                        *
+     *                                                                      *
+     ***********************************************************************/
+
+    private final ItemPositionIndex<T> itemPositions = new ItemPositionIndex<>();
+    /** The position to show once the page size is known, -1 if there is none */
+    private int pendingShowIndex = -1;
+    /** The item to show once the first filter and sort computation finished, null if there is none */
+    private T pendingShowItem;
+    private boolean pendingShowItemHighlight;
+
+    /**
+     * Returns the position at which an item of the item list is shown, considering filter and sort order.
+     *
+     * @param item the item
+     * @return the position of the item or -1, if it is not shown
+     */
+    int getViewPosition( T item ) {
+        if ( getSkinnable().getDataSource() != null ) {
+            // The items of a data source are not known
+            return -1;
+        }
+        int index = itemPositions.indexOf(getSkinnable().getItemList(), item);
+        return index < 0 ? -1 : filterSortIndex.positionOf(index);
+    }
+
+    /**
+     * Moves to the page that contains the given position, or scrolls it into view in the scrolling display mode.
+     * If the size of the pages is not known yet, this happens as soon as it is.
+     *
+     * @param position the position among the shown items
+     */
+    void showIndex( int position ) {
+        pendingShowItem = null;
+        if ( position < 0 ) {
+            return;
+        }
+        if ( scrollView != null ) {
+            pendingShowIndex = -1;
+            scrollView.scrollToIndex(position);
+        } else if ( pagination != null && tilesPerPage != 0 ) {
+            pendingShowIndex = -1;
+            cancelNavigation();
+            pagination.setCurrentPageIndex(Math.min(position / tilesPerPage, pagination.getPageCount() - 1));
+        } else {
+            pendingShowIndex = position;
+        }
+    }
+
+    /**
+     * Shows the item that was requested before the skin existed, through the item positions instead of searching
+     * the item list.
+     */
+    private void applyPendingShowItem() {
+        if ( pendingShowItem == null ) {
+            return;
+        }
+        int position = getViewPosition(pendingShowItem);
+        pendingShowItem = null;
+        if ( position >= 0 ) {
+            if ( pendingShowItemHighlight ) {
+                getSkinnable().setHighlightedIndex(position);
+            }
+            showIndex(position);
+        }
+    }
+
+    private void applyPendingShowIndex() {
+        if ( pendingShowIndex >= 0 ) {
+            showIndex(pendingShowIndex);
+        }
+    }
+
+    /**
+     * Sets the highlighted and selected state of the cells of a page.
+     *
+     * @param page the page or grid holding the cells
+     * @param startIndex the position of the first cell
+     */
+    @SuppressWarnings("unchecked")
+    void updateCellStates( TileGrid page, int startIndex ) {
+        int highlightedIndex = getSkinnable().getHighlightedIndex();
+        PaginatedTilesSelectionModel<T> selectionModel = getSkinnable().getSelectionModel();
+        ObservableList<Node> children = page.getChildren();
+        for ( int i = 0; i < children.size(); i++ ) {
+            PaginatedTilesCell<T> cell = (PaginatedTilesCell<T>) children.get(i);
+            int position = startIndex + i;
+            cell.setHighlighted(position == highlightedIndex);
+            cell.setSelected(selectionModel != null && selectionModel.isSelected(filterSortIndex.indexAt(position)));
+        }
+    }
+
+    /* **********************************************************************
+     *                                                                      *
+     * Refreshing Items                                                     *
+     *                                                                      *
+     ***********************************************************************/
+
+    /** Positions whose items changed in place while their cells were on a prepared page */
+    private final BitSet stalePositions = new BitSet();
+
+    /**
+     * Refreshes the cell of an item that changed in place. The item of a data source is loaded again,
+     * the cell only holds the instance that was loaded before.
+     *
+     * @param index the index of the item in the item list, or in the data source if one is set
+     */
+    void refreshIndex( int index ) {
+        PaginatedTilesDataSource<T> dataSource = getSkinnable().getDataSource();
+        if ( dataSource != null ) {
+            reloadIndex(dataSource, index);
+            return;
+        }
+        int position = filterSortIndex.positionOf(index);
+        if ( position >= 0 ) {
+            refreshPositions(position, position + 1);
+        }
+    }
+
+    /**
+     * Loads the item at an index of the data source again on the background executor and binds it to the cell
+     * of the current page that shows the index. Pages of a data source are not kept off screen, so other cells
+     * do not need to be refreshed.
+     *
+     * @param dataSource the data source to load from
+     * @param index the index of the item in the data source
+     */
+    @SuppressWarnings("unchecked")
+    private void reloadIndex( PaginatedTilesDataSource<T> dataSource, int index ) {
+        if ( currentPage == null || tilesPerPage == 0 ) {
+            return;
+        }
+        int startIndex = currentPageIndex * tilesPerPage;
+        if ( index < startIndex || index >= startIndex + currentPage.getChildren().size() ) {
+            return;
+        }
+        PaginatedTilesCell<T> cell = (PaginatedTilesCell<T>) currentPage.getChildren().get(index - startIndex);
+        T staleItem = cell.getItem();
+        if ( staleItem == null ) {
+            // The cell still waits for the load of its page, which brings the current item
+            return;
+        }
+
+        getSkinnable().getBackgroundExecutor().execute( () -> {
+            CompletableFuture<List<T>> load;
+            try {
+                load = dataSource.loadPage(index, 1);
+            } catch ( RuntimeException e ) {
+                load = new CompletableFuture<>();
+                load.completeExceptionally(e);
+            }
+            load.whenComplete( (items, error) -> Platform.runLater( () -> bindReloadedItem(cell, staleItem, index, items, error) ));
+        });
+    }
+
+    /**
+     * Binds a reloaded item to its cell, unless the cell shows another item by now.
+     */
+    private void bindReloadedItem( PaginatedTilesCell<T> cell, T staleItem, int index, List<T> items, Throwable error ) {
+        if ( getSkinnable() == null || currentPage == null || cell.getParent() != currentPage || cell.getItem() != staleItem
+                || currentPageIndex * tilesPerPage + currentPage.getChildren().indexOf(cell) != index ) {
+            return;
+        }
+        if ( error != null ) {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, error);
+        } else if ( items != null && !items.isEmpty() ) {
+            cell.bindItem(items.get(0), getSkinnable().getBackgroundExecutor());
+        }
+    }
+
+    /**
+     * Refreshes the cell of an item of the item list that changed in place.
+     *
+     * @param item the item
+     */
+    void refreshItem( T item ) {
+        int position = getViewPosition(item);
+        if ( position >= 0 ) {
+            refreshPositions(position, position + 1);
+        }
+    }
+
+    /**
+     * Updates the visible cells of the shown positions [from, to) for their changed items. Cells on prepared
+     * pages are updated when their page is shown, positions that are not on any page are ignored.
+     *
+     * @param from the first position
+     * @param to the position behind the last one
+     */
+    private void refreshPositions( int from, int to ) {
+        if ( scrollView != null ) {
+            refreshCells(scrollView.getGrid(), scrollView.getWindowFrom(), from, to);
+        } else if ( currentPage != null && tilesPerPage != 0 ) {
+            refreshCells(currentPage, currentPageIndex * tilesPerPage, from, to);
+            for ( int pageIndex : preparedPages.keySet() ) {
+                markStalePositions(pageIndex, from, to);
+            }
+            if ( previousPage != null && previousPageIndex >= 0 ) {
+                markStalePositions(previousPageIndex, from, to);
+            }
+        }
+    }
+
+    /**
+     * Updates the cells of a page or grid that show the positions [from, to).
+     *
+     * @param page the page or grid holding the cells
+     * @param startIndex the position of its first cell
+     * @param from the first position
+     * @param to the position behind the last one
+     */
+    @SuppressWarnings("unchecked")
+    private void refreshCells( TileGrid page, int startIndex, int from, int to ) {
+        ObservableList<Node> children = page.getChildren();
+        int end = Math.min(to, startIndex + children.size());
+        for ( int position = Math.max(from, startIndex); position < end; position++ ) {
+            ((PaginatedTilesCell<T>) children.get(position - startIndex)).refreshItem(getSkinnable().getBackgroundExecutor());
+        }
+    }
+
+    private void markStalePositions( int pageIndex, int from, int to ) {
+        int startIndex = pageIndex * tilesPerPage;
+        int staleFrom = Math.max(from, startIndex);
+        int staleTo = Math.min(to, startIndex + tilesPerPage);
+        if ( staleFrom < staleTo ) {
+            stalePositions.set(staleFrom, staleTo);
+        }
+    }
+
+    /**
+     * Updates the cells of a prepared page that is shown now, whose items changed while it was not shown.
+     *
+     * @param page the page
+     * @param pageIndex its index
+     */
+    private void refreshStaleCells( TileGrid page, int pageIndex ) {
+        int startIndex = pageIndex * tilesPerPage;
+        int endIndex = startIndex + tilesPerPage;
+        int stale = stalePositions.nextSetBit(startIndex);
+        if ( stale < 0 || stale >= endIndex ) {
+            return;
+        }
+        for ( ; stale >= 0 && stale < endIndex; stale = stalePositions.nextSetBit(stale + 1) ) {
+            refreshCells(page, startIndex, stale, stale + 1);
+        }
+        stalePositions.clear(startIndex, endIndex);
+    }
+
+    /**
+     * Handles a change of the item list that only reports items that changed in place, e.g. through an extractor.
+     * Without filter and comparator only the cells of the updated items that are on a page are refreshed.
+     *
+     * @param change the change of the item list
+     * @return true, if the change was handled completely
+     */
+    private boolean refreshUpdatedItems( ListChangeListener.Change<? extends T> change ) {
+        if ( isFilteredOrSorted() ) {
+            // The changed properties may decide whether and where the items are shown, see collectListChange
+            return false;
+        }
+        while ( change.next() ) {
+            if ( !change.wasUpdated() ) {
+                change.reset();
+                return false;
+            }
+        }
+        change.reset();
+        while ( change.next() ) {
+            refreshPositions(change.getFrom(), change.getTo());
+        }
+        change.reset();
+        return true;
+    }
+
+    /* **********************************************************************
+     *                                                                      *
+     * Level of Detail                                                      *
+     *                                                                      *
+     ***********************************************************************/
+
+    /** The time that binding cells may take per frame, before the remaining cells are bound as skeletons */
+    private static final long FRAME_BUDGET_NANOS = 8_000_000;
+
+    /** Whether the page that is built by the pageFactory is filled with skeleton cells */
+    private boolean fillSkeletons;
+    private long lastPageChangeTime;
+    private PauseTransition detailDelay;
+    /** Continues upgrading skeleton cells once per pulse, while they exceed the frame budget */
+    private final AnimationTimer skeletonUpgrade = new AnimationTimer() {
+        @Override public void handle( long now ) {
+            upgradeSkeletons();
+        }
+    };
+
+    private boolean isLevelOfDetailEnabled() {
+        return getSkinnable().isLevelOfDetail() && pagination != null;
+    }
+
+    private long getDetailDelayNanos() {
+        Duration delay = getSkinnable().getDetailDelay();
+        return delay != null ? (long) (delay.toMillis() * 1_000_000) : 0;
+    }
+
+    /**
+     * (Re)starts the detail delay, after which the skeleton cells of the current page are upgraded to full cells.
+     */
+    private void scheduleDetailUpgrade() {
+        if ( !isLevelOfDetailEnabled() ) {
+            return;
+        }
+        // Pages that are flipped past are not upgraded
+        skeletonUpgrade.stop();
+        if ( detailDelay == null ) {
+            detailDelay = new PauseTransition();
+            detailDelay.setOnFinished( event -> upgradeSkeletons() );
+        }
+        Duration delay = getSkinnable().getDetailDelay();
+        detailDelay.setDuration(delay != null ? delay : Duration.ZERO);
+        detailDelay.playFromStart();
+    }
+
+    /**
+     * Binds the skeleton cells of the current page to their items for real. If that takes longer than the
+     * frame budget, the remaining cells are upgraded in the following pulses, one slice per pulse.
+     */
+    @SuppressWarnings("unchecked")
+    private void upgradeSkeletons() {
+        if ( currentPage == null ) {
+            skeletonUpgrade.stop();
+            return;
+        }
+        long startTime = System.nanoTime();
+        for ( Node node : currentPage.getChildren() ) {
+            PaginatedTilesCell<T> cell = (PaginatedTilesCell<T>) node;
+            if ( !cell.isSkeleton() ) {
+                continue;
+            }
+            if ( System.nanoTime() - startTime > FRAME_BUDGET_NANOS ) {
+                skeletonUpgrade.start();
+                return;
+            }
+            cell.bindItem(cell.getItem(), getSkinnable().getBackgroundExecutor());
+        }
+        skeletonUpgrade.stop();
+    }
+
+    /* **********************************************************************
+     *                                                                      *
+     * Selection                                                            *
+     *                                                                      *
+     ***********************************************************************/
+
+    private final InvalidationListener selectionListener = observable -> refreshCellStates();
+    private PaginatedTilesSelectionModel<T> attachedSelectionModel;
+
+    /**
+     * Listens to the selection of the given selection model, instead of the one attached before.
+     *
+     * @param selectionModel the selection model, may be null
+     */
+    private void attachSelectionModel( PaginatedTilesSelectionModel<T> selectionModel ) {
+        if ( attachedSelectionModel != null ) {
+            attachedSelectionModel.removeListener(selectionListener);
+        }
+        attachedSelectionModel = selectionModel;
+        if ( selectionModel != null ) {
+            selectionModel.addListener(selectionListener);
+        }
+    }
+
+    /**
+     * Updates the highlighted and selected state of the visible cells. Cells that are not visible are
+     * updated when they are shown.
+     */
+    private void refreshCellStates() {
+        if ( scrollView != null ) {
+            scrollView.requestLayout();
+        } else if ( currentPage != null ) {
+            updateCellStates(currentPage, currentPageIndex * tilesPerPage);
+        }
+    }
+
+    /**
+     * Returns the index in the item list (or data source) of the item a visible cell shows.
+     *
+     * @param cell a tile cell
+     * @return the index of its item or -1, if the cell is not visible
+     */
+    int getItemIndex( PaginatedTilesCell<T> cell ) {
+        int position = -1;
+        if ( scrollView != null && cell.getParent() == scrollView.getGrid() ) {
+            position = scrollView.getWindowFrom() + scrollView.getGrid().getChildren().indexOf(cell);
+        } else if ( currentPage != null && cell.getParent() == currentPage ) {
+            position = currentPageIndex * tilesPerPage + currentPage.getChildren().indexOf(cell);
+        }
+        return position < 0 ? -1 : filterSortIndex.indexAt(position);
+    }
+
+    /**
+     * Selects the items from the anchor of the selection to the given item, like a shift click. The range is
+     * resolved in shown positions, so with a filter or sort order it holds the items that are shown in between.
+     *
+     * @param selectionModel the selection model of the control
+     * @param index the index of the clicked item
+     */
+    void selectRangeFromAnchor( PaginatedTilesSelectionModel<T> selectionModel, int index ) {
+        if ( getSkinnable().getDataSource() != null || !filterSortIndex.isActive() ) {
+            selectionModel.selectRangeFromAnchor(index);
+        } else {
+            selectionModel.selectRangeFromAnchor(index, filterSortIndex::positionOf, filterSortIndex::indexAt);
+        }
+    }
+
+    /* **********************************************************************
+     *                                                                      *
+     * Prefetching                                                          *
+     *                                                                      *
+     ***********************************************************************/
+
+    /**
+     * Pages that were built ahead of time or are cached after they were left, by page index, in the order
+     * of their last use. They are not part of the scene graph.
+     */
+    private final Map<Integer, TileGrid> preparedPages = new LinkedHashMap<>(16, 0.75f, true);
+    private boolean prefetchScheduled;
+
+    /**
+     * Schedules building the next missing page around the current page. The pages are built one at a time,
+     * each in its own runLater, so the current page is shown first and no pulse has to build more than one page.
+     */
+    private void schedulePrefetch() {
+        if ( prefetchScheduled || (!isPrefetchEnabled() && preparedPages.isEmpty()) ) {
+            // Nothing to build or drop
+            return;
+        }
+        prefetchScheduled = true;
+        Platform.runLater(this::prefetchNextPage);
+    }
+
+    /**
+     * Drops prepared pages that exceed the page cache and builds the nearest missing page.
+     */
+    private void prefetchNextPage() {
+        prefetchScheduled = false;
+        if ( getSkinnable() == null ) {
+            // The skin was disposed in the meantime
+            return;
+        }
+        int radius = isPrefetchEnabled() ? getSkinnable().getPrefetchRadius() : 0;
+
+        trimPreparedPages(currentPageIndex);
+
+        if ( radius <= 0 || tilesPerPage == 0 || currentPage == null ) {
+            return;
+        }
+        for ( int distance = 1; distance <= radius; distance++ ) {
+            for ( int pageIndex : new int[]{ currentPageIndex + distance, currentPageIndex - distance } ) {
+                if ( pageIndex >= 0 && pageIndex < pagination.getPageCount() && !preparedPages.containsKey(pageIndex) ) {
+                    preparedPages.put(pageIndex, createPage(pageIndex, RebuildCause.PREFETCH));
+                    schedulePrefetch();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Keeps a page that was taken off screen as prepared page, if it is within the prefetch radius
+     * or the page cache is enabled.
+     *
+     * @param page the page that is no longer visible
+     * @param pageIndex the index of that page
+     * @param newPageIndex the index of the page that is shown now
+     * @return true, if the page was kept
+     */
+    private boolean keepAsPreparedPage( TileGrid page, int pageIndex, int newPageIndex ) {
+        if ( pageIndex < 0 || pageIndex == newPageIndex || preparedPages.containsKey(pageIndex) ) {
+            return false;
+        }
+        boolean inRadius = isPrefetchEnabled() && Math.abs(pageIndex - newPageIndex) <= getSkinnable().getPrefetchRadius();
+        if ( !inRadius && !isPageCacheEnabled() ) {
+            return false;
+        }
+        preparedPages.put(pageIndex, page);
+        trimPreparedPages(newPageIndex);
+        return true;
+    }
+
+    private boolean isPrefetchEnabled() {
+        return getSkinnable().getPrefetchRadius() > 0 && getSkinnable().getDataSource() == null;
+    }
+
+    private boolean isPageCacheEnabled() {
+        return getSkinnable().getPageCacheSize() > 0 && getSkinnable().getDataSource() == null;
+    }
+
+    /**
+     * Drops the least recently used prepared pages outside of the prefetch radius, until no more than
+     * pageCacheSize of them are left, and recycles their cells.
+     *
+     * @param pageIndex the index of the page that is shown
+     */
+    private void trimPreparedPages( int pageIndex ) {
+        int radius = isPrefetchEnabled() ? getSkinnable().getPrefetchRadius() : 0;
+        int cacheSize = isPageCacheEnabled() ? getSkinnable().getPageCacheSize() : 0;
+        int cachedPages = 0;
+        for ( int preparedPageIndex : preparedPages.keySet() ) {
+            if ( Math.abs(preparedPageIndex - pageIndex) > radius ) {
+                cachedPages++;
+            }
+        }
+        Iterator<Map.Entry<Integer, TileGrid>> iterator = preparedPages.entrySet().iterator();
+        while ( cachedPages > cacheSize && iterator.hasNext() ) {
+            Map.Entry<Integer, TileGrid> preparedPage = iterator.next();
+            if ( Math.abs(preparedPage.getKey() - pageIndex) > radius ) {
+                releaseCells(preparedPage.getValue());
+                iterator.remove();
+                cachedPages--;
+            }
+        }
+    }
+
+    /**
+     * Drops the prepared pages that show items at or behind the given item index and recycles their cells.
+     *
+     * @param fromIndex the index of the first item that changed
+     */
+    private void clearPreparedPages( int fromIndex ) {
+        invalidatePreparedPages(fromIndex, new BitSet());
+    }
+
+    /**
+     * Drops the prepared pages whose items changed and recycles their cells.
+     *
+     * @param shiftFrom the index from which items were shifted, all pages showing it or later items are dropped
+     * @param dirtyPages the indices of further pages to drop
+     */
+    private void invalidatePreparedPages( int shiftFrom, BitSet dirtyPages ) {
+        Iterator<Map.Entry<Integer, TileGrid>> iterator = preparedPages.entrySet().iterator();
+        while ( iterator.hasNext() ) {
+            Map.Entry<Integer, TileGrid> preparedPage = iterator.next();
+            if ( isPageOutdated(preparedPage.getKey(), shiftFrom, dirtyPages) ) {
+                releaseCells(preparedPage.getValue());
+                iterator.remove();
+            }
+        }
+        if ( previousPage != null && isPageOutdated(previousPageIndex, shiftFrom, dirtyPages) ) {
+            // The previous page must not become a prepared page anymore
+            previousPageIndex = -1;
+        }
+    }
+
+    private boolean isPageOutdated( int pageIndex, int shiftFrom, BitSet dirtyPages ) {
+        return tilesPerPage == 0 || (long) (pageIndex + 1) * tilesPerPage > shiftFrom
+                || (pageIndex >= 0 && dirtyPages.get(pageIndex));
+    }
+
+    /**
+     * Drops all prepared pages and disposes their cells.
+     */
+    private void disposePreparedPages() {
+        for ( TileGrid page : preparedPages.values() ) {
+            disposeCells(page);
+        }
+        preparedPages.clear();
+    }
+
+    /* **********************************************************************
+     *                                                                      *
+     * Data Source Loading                                                  *
+     *                                                                      *
+     ***********************************************************************/
+
+    private final InvalidationListener itemCountListener = observable -> onItemCountChange();
+    private PaginatedTilesDataSource<T> attachedDataSource;
+    private CompletableFuture<List<T>> pageLoad;
+    /** A failed page load is retried after this delay, times the number of failed attempts */
+    private static final Duration LOAD_RETRY_DELAY = Duration.seconds(1);
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+    private PauseTransition loadRetry;
+
+    /**
+     * Moves the item count listener to the given data source.
+     *
+     * @param dataSource the new data source, may be null
+     */
+    private void attachDataSource( PaginatedTilesDataSource<T> dataSource ) {
+        if ( attachedDataSource != null ) {
+            attachedDataSource.itemCountProperty().removeListener(itemCountListener);
+        }
+        cancelPageLoad();
+        attachedDataSource = dataSource;
+        if ( dataSource != null ) {
+            dataSource.itemCountProperty().addListener(itemCountListener);
+        }
+    }
+
+    /**
+     * Gets called when the item count of the data source or the data source itself changes.
+     * If the pageCount changes because of this, it sets the page count, else it reloads the current page.
+     */
+    private void onItemCountChange() {
+        if ( getSkinnable().isUpdating() ) {
+            pendingItemCountChange = true;
+            return;
+        }
+        pendingItemCountChange = false;
+        if ( tilesPerPage == 0 || currentPage == null ) {
+            return;
+        }
+
+        int pageCount = getItemCount() / tilesPerPage + 1;
+
+        clearPreparedPages(0);
+
+        if ( pagination.getPageCount() != pageCount ) {
+            setPageCount(pageCount, RebuildCause.DATA_SOURCE, () -> rebuildCurrentPage(RebuildCause.DATA_SOURCE));
+        } else {
+            rebuildCurrentPage(RebuildCause.DATA_SOURCE);
+        }
+    }
+
+    /**
+     * Loads the items of a page on the background executor and binds them to the pending cells of the page.
+     *
+     * @param dataSource the data source to load from
+     * @param page the page whose cells are bound after loading
+     * @param offset the index of the first item of the page
+     * @param limit the number of cells on the page
+     */
+    private void loadPage( PaginatedTilesDataSource<T> dataSource, TileGrid page, int offset, int limit ) {
+        loadPage(dataSource, page, offset, limit, 1);
+    }
+
+    private void loadPage( PaginatedTilesDataSource<T> dataSource, TileGrid page, int offset, int limit, int attempt ) {
+        if ( loadRetry != null ) {
+            // Superseded by this load
+            loadRetry.stop();
+        }
+        CompletableFuture<List<T>> load = new CompletableFuture<>();
+        pageLoad = load;
+
+        getSkinnable().getBackgroundExecutor().execute( () -> {
+            if ( load.isDone() ) {
+                // Cancelled before it started
+                return;
+            }
+            try {
+                CompletableFuture<List<T>> sourceLoad = dataSource.loadPage(offset, limit);
+                load.whenComplete( (items, error) -> {
+                    if ( load.isCancelled() ) {
+                        sourceLoad.cancel(true);
+                    }
+                });
+                sourceLoad.whenComplete( (items, error) -> {
+                    if ( error != null ) {
+                        load.completeExceptionally(error);
+                    } else {
+                        load.complete(items);
+                    }
+                });
+            } catch ( RuntimeException e ) {
+                load.completeExceptionally(e);
+            }
+        });
+
+        load.whenComplete( (items, error) -> Platform.runLater( () -> {
+            if ( pageLoad != load || load.isCancelled() ) {
+                // Stale load of a page that is no longer shown
+                return;
+            }
+            pageLoad = null;
+            if ( error != null ) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, error);
+                if ( attempt < MAX_LOAD_ATTEMPTS ) {
+                    scheduleLoadRetry(dataSource, page, offset, limit, attempt + 1);
+                }
+            } else {
+                bindLoadedItems(page, items != null ? items : Collections.emptyList());
+            }
+        }));
+    }
+
+    /**
+     * Loads a page again after its load failed, if it is still shown and waits for its items by then.
+     * A page that failed every attempt is loaded again when it is shown the next time.
+     */
+    private void scheduleLoadRetry( PaginatedTilesDataSource<T> dataSource, TileGrid page, int offset, int limit, int attempt ) {
+        if ( loadRetry == null ) {
+            loadRetry = new PauseTransition();
+        }
+        loadRetry.setDuration(LOAD_RETRY_DELAY.multiply(attempt - 1));
+        loadRetry.setOnFinished( event -> {
+            if ( pageLoad == null && page == currentPage && hasPendingCells(page) ) {
+                loadPage(dataSource, page, offset, limit, attempt);
+            }
+        });
+        loadRetry.playFromStart();
+    }
+
+    /**
+     * Binds loaded items to the pending cells of a page. Cells that kept their item, e.g. when the page was
+     * reflowed while it was loading, are left as they are. If the data source returned fewer items than the page
+     * has cells, it ends before its item count claims, and the cells behind the loaded items are released.
+     *
+     * @param page the page that was loaded
+     * @param items the loaded items, in page order
+     */
+    @SuppressWarnings("unchecked")
+    private void bindLoadedItems( TileGrid page, List<T> items ) {
+        ObservableList<Node> children = page.getChildren();
+        int count = Math.min(children.size(), items.size());
+        for ( int i = 0; i < count; i++ ) {
+            PaginatedTilesCell<T> cell = (PaginatedTilesCell<T>) children.get(i);
+            if ( cell.getItem() == null ) {
+                cell.bindItem(items.get(i), getSkinnable().getBackgroundExecutor());
+            }
+        }
+        releaseCells(page, count, children.size());
+    }
+
+    /**
+     * @param page a page
+     * @return true, if a cell of the page waits for its item to be loaded
+     */
+    @SuppressWarnings("unchecked")
+    private boolean hasPendingCells( TileGrid page ) {
+        for ( Node node : page.getChildren() ) {
+            if ( ((PaginatedTilesCell<T>) node).getItem() == null ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Cancels the load of the current page and a pending retry, if there is one.
+     */
+    private void cancelPageLoad() {
+        if ( loadRetry != null ) {
+            loadRetry.stop();
+        }
+        if ( pageLoad != null ) {
+            pageLoad.cancel(true);
+            pageLoad = null;
+        }
+    }
+
+    /* **********************************************************************
+     *                                                                      *
+     * Cell Recycling                                                       *
+     *                                                                      *
+     ***********************************************************************/
+
+    private final Deque<PaginatedTilesCell<T>> cellPool = new ArrayDeque<>();
+
+    /**
+     * Returns a tile cell from the cell pool, or a new one from the cell factory if the pool is empty.
+     *
+     * @return a tile cell that is not attached to any page
+     */
+    PaginatedTilesCell<T> obtainCell() {
+        PaginatedTilesCell<T> cell = cellPool.poll();
+        if ( cell == null ) {
+            cell = getSkinnable().getCellFactory().call(getSkinnable());
+            if ( statistics != null ) {
+                statistics.recordCellCreation();
+            }
+        } else if ( statistics != null ) {
+            statistics.recordCellReuse();
+        }
+        return cell;
+    }
+
+    /**
+     * Removes all tile cells from a page and puts them into the cell pool.
+     *
+     * @param page the page whose cells are released
+     */
+    @SuppressWarnings("unchecked")
+    private void releaseCells( TileGrid page ) {
+        for ( Node node : page.getChildren() ) {
+            releaseCell((PaginatedTilesCell<T>) node);
+        }
+        page.getChildren().clear();
+    }
+
+    /**
+     * Removes the tile cells [from, to) from a page and puts them into the cell pool.
+     *
+     * @param page the page whose cells are released
+     * @param from the index of the first cell
+     * @param to the index behind the last cell
+     */
+    @SuppressWarnings("unchecked")
+    private void releaseCells( TileGrid page, int from, int to ) {
+        if ( from >= to ) {
+            return;
+        }
+        List<Node> cells = page.getChildren().subList(from, to);
+        for ( Node node : cells ) {
+            releaseCell((PaginatedTilesCell<T>) node);
+        }
+        cells.clear();
+    }
+
+    /**
+     * Removes all tile cells from a page and disposes them without pooling.
+     *
+     * @param page the page whose cells are disposed
+     */
+    @SuppressWarnings("unchecked")
+    void disposeCells( TileGrid page ) {
+        for ( Node node : page.getChildren() ) {
+            PaginatedTilesCell<T> cell = (PaginatedTilesCell<T>) node;
+            cell.unbindItem();
+            cell.disposeCell();
+        }
+        page.getChildren().clear();
+    }
+
+    /**
+     * Puts a tile cell into the cell pool, or disposes it if the pool is full.
+     *
+     * @param cell the cell that is no longer used on a page
+     */
+    void releaseCell( PaginatedTilesCell<T> cell ) {
+        cell.unbindItem();
+        if ( cellPool.size() < getSkinnable().getCellPoolSize() ) {
+            cell.recycleCell();
+            cellPool.push(cell);
+        } else {
+            cell.disposeCell();
+        }
+    }
+
+    /**
+     * Disposes cells until the pool does not exceed the configured cell pool size.
+     */
+    private void trimCellPool() {
+        while ( cellPool.size() > Math.max(0, getSkinnable().getCellPoolSize()) ) {
+            cellPool.pop().disposeCell();
+        }
+    }
+
+    /**
+     * Disposes all pooled cells.
+     */
+    private void clearCellPool() {
+        while ( !cellPool.isEmpty() ) {
+            cellPool.pop().disposeCell();
         }
     }
 
@@ -0,0 +1,175 @@
+package com.github.rjwestman.paginatedTiles;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read-only statistics about the work the skin of a PaginatedTiles control does: how often pages are built
+ * and why, how long page builds take and how many tile cells are created or reused.
+ *
+ * <p>
+ * The statistics are only collected while {@link PaginatedTiles#statisticsEnabledProperty() statisticsEnabled}
+ * is set. They are updated on the JavaFX Application Thread and can be read from any thread.
+ * </p>
+ */
+public final class PaginatedTilesStatistics {
+
+    /**
+     * The reasons for (re)building the tile cells of a page.
+     */
+    public enum RebuildCause {
+        /** The user moved to another page */
+        PAGE_CHANGE,
+        /** The size of the control or the tiles changed the tiles per page or the page count */
+        RESIZE,
+        /** The item list changed */
+        LIST_CHANGE,
+        /** The data source or its item count changed */
+        DATA_SOURCE,
+        /** The cell factory changed */
+        CELL_FACTORY,
+        /** A page around the current page was built ahead of time */
+        PREFETCH
+    }
+
+    /**
+     * The number of buckets of the page build time histogram. Bucket 0 counts builds below 1 µs,
+     * bucket i (i &gt; 0) counts builds from 2^(i-1) µs up to 2^i µs, the last bucket counts everything above.
+     */
+    public static final int HISTOGRAM_BUCKETS = 24;
+
+    private final LongAdder pageBuilds = new LongAdder();
+    private final LongAdder pageBuildNanos = new LongAdder();
+    private final LongAdder cellCreations = new LongAdder();
+    private final LongAdder cellReuses = new LongAdder();
+    private final AtomicLongArray rebuilds = new AtomicLongArray(RebuildCause.values().length);
+    private final AtomicLongArray pageBuildHistogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+    private volatile long maxPageBuildNanos;
+
+    PaginatedTilesStatistics() {
+    }
+
+    /* **********************************************************************
+     *                                                                      *
+     * Getter                                                               *
+     *                                                                      *
+     ***********************************************************************/
+
+    /**
+     * @return the number of times tile cells were bound to a page, for whatever cause.
+     */
+    public long getPageBuildCount() {
+        return pageBuilds.sum();
+    }
+
+    /**
+     * @param cause the rebuild cause
+     * @return the number of page builds for the given cause.
+     */
+    public long getRebuildCount(RebuildCause cause) {
+        return rebuilds.get(cause.ordinal());
+    }
+
+    /**
+     * @return the number of tile cells created by the cell factory.
+     */
+    public long getCellCreationCount() {
+        return cellCreations.sum();
+    }
+
+    /**
+     * @return the number of tile cells taken from the cell pool instead of being created.
+     */
+    public long getCellReuseCount() {
+        return cellReuses.sum();
+    }
+
+    /**
+     * @return the mean time of a page build in nanoseconds, or 0 if no page was built yet.
+     */
+    public double getMeanPageBuildNanos() {
+        long builds = pageBuilds.sum();
+        return builds == 0 ? 0 : (double) pageBuildNanos.sum() / builds;
+    }
+
+    /**
+     * @return the longest time of a page build in nanoseconds.
+     */
+    public long getMaxPageBuildNanos() {
+        return maxPageBuildNanos;
+    }
+
+    /**
+     * Returns a copy of the page build time histogram, see {@link #HISTOGRAM_BUCKETS} for the bucket bounds.
+     *
+     * @return the number of page builds per bucket
+     */
+    public long[] getPageBuildHistogram() {
+        long[] histogram = new long[HISTOGRAM_BUCKETS];
+        for ( int i = 0; i < HISTOGRAM_BUCKETS; i++ ) {
+            histogram[i] = pageBuildHistogram.get(i);
+        }
+        return histogram;
+    }
+
+    /**
+     * Sets all counters back to 0.
+     */
+    public void reset() {
+        pageBuilds.reset();
+        pageBuildNanos.reset();
+        cellCreations.reset();
+        cellReuses.reset();
+        for ( int i = 0; i < rebuilds.length(); i++ ) {
+            rebuilds.set(i, 0);
+        }
+        for ( int i = 0; i < HISTOGRAM_BUCKETS; i++ ) {
+            pageBuildHistogram.set(i, 0);
+        }
+        maxPageBuildNanos = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("PaginatedTilesStatistics[pageBuilds=").append(getPageBuildCount());
+        for ( RebuildCause cause : RebuildCause.values() ) {
+            builder.append(", ").append(cause).append('=').append(getRebuildCount(cause));
+        }
+        return builder.append(", cellCreations=").append(getCellCreationCount())
+                .append(", cellReuses=").append(getCellReuseCount())
+                .append(", meanPageBuildNanos=").append((long) getMeanPageBuildNanos())
+                .append(", maxPageBuildNanos=").append(getMaxPageBuildNanos())
+                .append(']').toString();
+    }
+
+    /* **********************************************************************
+     *                                                                      *
+     * Recording                                                            *
+     *                                                                      *
+     ***********************************************************************/
+
+    void recordPageBuild(RebuildCause cause, long nanos) {
+        pageBuilds.increment();
+        pageBuildNanos.add(nanos);
+        rebuilds.incrementAndGet(cause.ordinal());
+        pageBuildHistogram.incrementAndGet(histogramBucket(nanos));
+        if ( nanos > maxPageBuildNanos ) {
+            maxPageBuildNanos = nanos;
+        }
+    }
+
+    void recordCellCreation() {
+        cellCreations.increment();
+    }
+
+    void recordCellReuse() {
+        cellReuses.increment();
+    }
+
+    private static int histogramBucket(long nanos) {
+        long micros = nanos / 1000;
+        int bucket = micros == 0 ? 0 : 64 - Long.numberOfLeadingZeros(micros);
+        return Math.min(bucket, HISTOGRAM_BUCKETS - 1);
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.github.rjwestman.paginatedTiles;
+
+import javafx.css.CssMetaData;
+import javafx.css.StyleConverter;
+import javafx.css.Styleable;
+import javafx.css.StyleableDoubleProperty;
+import javafx.css.StyleableProperty;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The page of a PaginatedTiles control. Lays out its children in a grid of fixed size tiles.
+ * Unlike a TilePane the tile size and the number of rows and columns are given by the skin,
+ * so the children are never asked for their sizes and are placed by their index alone.
+ *
+ * <p>
+ * Style class: tile-pane. Supports the css properties -fx-hgap and -fx-vgap.
+ * </p>
+ */
+final class TileGrid extends Pane {
+
+    private double tileWidth;
+    private double tileHeight;
+    private int columns = 1;
+    private int rows = 1;
+
+    TileGrid() {
+        getStyleClass().add("tile-pane");
+    }
+
+    /**
+     * Sets the dimensions of the grid.
+     *
+     * @param tileWidth the width of a tile
+     * @param tileHeight the height of a tile
+     * @param columns the number of tiles per row
+     * @param rows the number of tiles per column
+     */
+    void setGridSize( double tileWidth, double tileHeight, int columns, int rows ) {
+        if ( this.tileWidth != tileWidth || this.tileHeight != tileHeight || this.columns != columns || this.rows != rows ) {
+            this.tileWidth = tileWidth;
+            this.tileHeight = tileHeight;
+            this.columns = Math.max(1, columns);
+            this.rows = Math.max(1, rows);
+            requestLayout();
+        }
+    }
+
+    /* **********************************************************************
+     *                                                                      *
+     * Properties                                                           *
+     *                                                                      *
+     ***********************************************************************/
+
+    private final StyleableDoubleProperty hgap = new StyleableDoubleProperty() {
+        @Override public void invalidated() { requestLayout(); }
+        @Override public CssMetaData<TileGrid, Number> getCssMetaData() { return HGAP; }
+        @Override public Object getBean() { return TileGrid.this; }
+        @Override public String getName() { return "hgap"; }
+    };
+
+    private final StyleableDoubleProperty vgap = new StyleableDoubleProperty() {
+        @Override public void invalidated() { requestLayout(); }
+        @Override public CssMetaData<TileGrid, Number> getCssMetaData() { return VGAP; }
+        @Override public Object getBean() { return TileGrid.this; }
+        @Override public String getName() { return "vgap"; }
+    };
+
+    // hgap
+    double getHgap() {
+        return hgap.get();
+    }
+    StyleableDoubleProperty hgapProperty() {
+        return hgap;
+    }
+
+    // vgap
+    double getVgap() {
+        return vgap.get();
+    }
+    StyleableDoubleProperty vgapProperty() {
+        return vgap;
+    }
+
+    /* **********************************************************************
+     *                                                                      *
+     * Layout                                                               *
+     *                                                                      *
+     ***********************************************************************/
+
+    @Override protected double computeMinWidth(double height) {
+        return computePrefWidth(height);
+    }
+
+    @Override protected double computeMinHeight(double width) {
+        return computePrefHeight(width);
+    }
+
+    @Override protected double computePrefWidth(double height) {
+        Insets insets = getInsets();
+        return snapSize(insets.getLeft() + columns * tileWidth + (columns - 1) * getHgap() + insets.getRight());
+    }
+
+    @Override protected double computePrefHeight(double width) {
+        Insets insets = getInsets();
+        return snapSize(insets.getTop() + rows * tileHeight + (rows - 1) * getVgap() + insets.getBottom());
+    }
+
+    @Override protected double computeMaxWidth(double height) {
+        return computePrefWidth(height);
+    }
+
+    @Override protected double computeMaxHeight(double width) {
+        return computePrefHeight(width);
+    }
+
+    @Override protected void layoutChildren() {
+        Insets insets = getInsets();
+        double left = snapPosition(insets.getLeft());
+        double top = snapPosition(insets.getTop());
+        double columnStep = tileWidth + getHgap();
+        double rowStep = tileHeight + getVgap();
+        double width = snapSize(tileWidth);
+        double height = snapSize(tileHeight);
+
+        List<Node> children = getManagedChildren();
+        for ( int i = 0; i < children.size(); i++ ) {
+            int column = i % columns;
+            int row = i / columns;
+            children.get(i).resizeRelocate(snapPosition(left + column * columnStep), snapPosition(top + row * rowStep), width, height);
+        }
+    }
+
+    /* **********************************************************************
+     *                                                                      *
+     * Stylesheet Handling                                                  *
+     *                                                                      *
+     ***********************************************************************/
+
+    private static final CssMetaData<TileGrid, Number> HGAP =
+            new CssMetaData<TileGrid, Number>("-fx-hgap", StyleConverter.getSizeConverter(), 0.0) {
+                @Override public boolean isSettable(TileGrid node) { return !node.hgap.isBound(); }
+                @Override public StyleableProperty<Number> getStyleableProperty(TileGrid node) { return node.hgap; }
+            };
+
+    private static final CssMetaData<TileGrid, Number> VGAP =
+            new CssMetaData<TileGrid, Number>("-fx-vgap", StyleConverter.getSizeConverter(), 0.0) {
+                @Override public boolean isSettable(TileGrid node) { return !node.vgap.isBound(); }
+                @Override public StyleableProperty<Number> getStyleableProperty(TileGrid node) { return node.vgap; }
+            };
+
+    private static final List<CssMetaData<? extends Styleable, ?>> STYLEABLES;
+    static {
+        List<CssMetaData<? extends Styleable, ?>> styleables = new ArrayList<>(Region.getClassCssMetaData());
+        styleables.add(HGAP);
+        styleables.add(VGAP);
+        STYLEABLES = Collections.unmodifiableList(styleables);
+    }
+
+    @Override public List<CssMetaData<? extends Styleable, ?>> getCssMetaData() {
+        return STYLEABLES;
+    }
+
+}
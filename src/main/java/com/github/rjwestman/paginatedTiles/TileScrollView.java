@@ -0,0 +1,270 @@
+package com.github.rjwestman.paginatedTiles;
+
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.Rectangle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The layout of a PaginatedTiles control in the scrolling display mode.
+ * Shows the data items as one continuous grid with a vertical scroll bar. Only the tile cells of the
+ * visible rows (plus one partially visible row) exist as nodes. When rows scroll out of view their
+ * cells are given back to the skin and reused for the rows that scroll into view.
+ *
+ * <p>
+ * Style class: tile-scroll-view. The grid inside has the style class tile-pane.
+ * </p>
+ *
+ * @param <T> The class type that specifies that data that is visualised by the tileCells.
+ */
+final class TileScrollView<T> extends Region {
+
+    private final PaginatedTilesSkin<T> skin;
+    private final TileGrid grid = new TileGrid();
+    private final ScrollBar scrollBar = new ScrollBar();
+    private final Rectangle clip = new Rectangle();
+
+    // The item range [windowFrom, windowTo) that is bound to the cells of the grid
+    private int windowFrom;
+    private int windowTo;
+    private int windowColumns;
+    /** The index of the first item that changed since the last layout, or Integer.MAX_VALUE */
+    private int dirtyFrom = Integer.MAX_VALUE;
+    /** The index of the item to scroll into view in the next layout, or -1 */
+    private int scrollToIndex = -1;
+
+    TileScrollView( PaginatedTilesSkin<T> skin ) {
+        this.skin = skin;
+        getStyleClass().add("tile-scroll-view");
+
+        scrollBar.setOrientation(Orientation.VERTICAL);
+        scrollBar.valueProperty().addListener( observable -> requestLayout() );
+        grid.setManaged(false);
+        setClip(clip);
+        getChildren().addAll(grid, scrollBar);
+
+        addEventHandler(ScrollEvent.SCROLL, event -> {
+            scrollBy(-event.getDeltaY());
+            event.consume();
+        });
+    }
+
+    /**
+     * @return the grid holding the tile cells
+     */
+    TileGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * @return the index of the item shown by the first cell of the grid
+     */
+    int getWindowFrom() {
+        return windowFrom;
+    }
+
+    /**
+     * Scrolls the grid by the given number of pixels.
+     *
+     * @param delta the pixels to scroll, positive values scroll down
+     */
+    void scrollBy( double delta ) {
+        scrollBar.setValue(Math.max(0, Math.min(scrollBar.getMax(), scrollBar.getValue() + delta)));
+    }
+
+    /**
+     * Scrolls the grid by multiples of the height of the view.
+     *
+     * @param pages the number of view heights to scroll, positive values scroll down
+     */
+    void scrollPage( int pages ) {
+        scrollBy(pages * scrollBar.getVisibleAmount());
+    }
+
+    /**
+     * Scrolls the row of the given item into view in the next layout pass.
+     *
+     * @param index the index of the item
+     */
+    void scrollToIndex( int index ) {
+        scrollToIndex = index;
+        requestLayout();
+    }
+
+    /**
+     * Marks the items from the given index on as changed. The cells showing them are rebound
+     * in the next layout pass, changes behind the visible rows only update the scroll bar.
+     *
+     * @param fromIndex the index of the first changed item
+     */
+    void itemsChanged( int fromIndex ) {
+        dirtyFrom = Math.min(dirtyFrom, fromIndex);
+        requestLayout();
+    }
+
+    @Override protected double computePrefWidth(double height) {
+        Insets insets = getInsets();
+        return insets.getLeft() + skin.getSkinnable().getTileWidth() + scrollBar.prefWidth(-1) + insets.getRight();
+    }
+
+    @Override protected double computePrefHeight(double width) {
+        Insets insets = getInsets();
+        return insets.getTop() + skin.getSkinnable().getTileHeight() + insets.getBottom();
+    }
+
+    @Override protected void layoutChildren() {
+        PaginatedTiles<T> control = skin.getSkinnable();
+        Insets insets = getInsets();
+        double x = insets.getLeft();
+        double y = insets.getTop();
+        double width = getWidth() - insets.getLeft() - insets.getRight();
+        double height = getHeight() - insets.getTop() - insets.getBottom();
+        double scrollBarWidth = snapSize(scrollBar.prefWidth(-1));
+        double viewportWidth = Math.max(0, width - scrollBarWidth);
+
+        double tileWidth = control.getTileWidth();
+        double tileHeight = control.getTileHeight();
+        double columnStep = tileWidth + grid.getHgap();
+        double rowStep = tileHeight + grid.getVgap();
+
+        // Grid dimensions
+        int itemCount = skin.getViewSize();
+        int columns = Math.max(1, 1 + (int) ((viewportWidth - tileWidth) / columnStep));
+        long rowCount = ((long) itemCount + columns - 1) / columns;
+        double contentHeight = Math.max(0, rowCount * rowStep - grid.getVgap());
+
+        scrollBar.setVisibleAmount(height);
+        scrollBar.setBlockIncrement(height);
+        scrollBar.setUnitIncrement(rowStep);
+        scrollBar.setMax(Math.max(0, contentHeight - height));
+        if ( scrollToIndex >= 0 && height > 0 ) {
+            // Scroll just far enough to make the whole row visible
+            double rowTop = (scrollToIndex / columns) * rowStep;
+            if ( rowTop < scrollBar.getValue() ) {
+                scrollBar.setValue(rowTop);
+            } else if ( rowTop + tileHeight > scrollBar.getValue() + height ) {
+                scrollBar.setValue(rowTop + tileHeight - height);
+            }
+            scrollToIndex = -1;
+        }
+        if ( scrollBar.getValue() > scrollBar.getMax() ) {
+            scrollBar.setValue(scrollBar.getMax());
+        }
+
+        // Visible rows
+        double offset = scrollBar.getValue();
+        long firstRow = (long) (offset / rowStep);
+        int visibleRows = (int) Math.ceil(height / rowStep) + 1;
+        int from = (int) Math.min(itemCount, firstRow * columns);
+        int to = (int) Math.min(itemCount, (firstRow + visibleRows) * columns);
+        updateWindow(from, to, columns);
+
+        grid.setGridSize(tileWidth, tileHeight, columns, visibleRows);
+        double gridWidth = grid.prefWidth(-1);
+        double gridX = x + Math.max(0, (viewportWidth - gridWidth) / 2);
+        grid.resizeRelocate(snapPosition(gridX), snapPosition(y + firstRow * rowStep - offset), gridWidth, grid.prefHeight(-1));
+        scrollBar.resizeRelocate(x + width - scrollBarWidth, y, scrollBarWidth, height);
+
+        clip.setWidth(getWidth());
+        clip.setHeight(getHeight());
+    }
+
+    /**
+     * Binds the cells of the grid to the item range [from, to). Cells of rows that are still visible are kept,
+     * cells of rows that left the view are released and rows that entered it get cells from the skin.
+     *
+     * @param from the index of the first visible item
+     * @param to the index behind the last visible item
+     * @param columns the number of columns of the grid
+     */
+    private void updateWindow( int from, int to, int columns ) {
+        ObservableList<Node> cells = grid.getChildren();
+
+        if ( columns != windowColumns || to <= windowFrom || from >= windowTo ) {
+            // Nothing to keep
+            releaseCells(0, cells.size());
+            windowFrom = windowTo = from;
+            windowColumns = columns;
+        }
+        if ( dirtyFrom < windowTo ) {
+            // Changed items are rebound by releasing their cells and binding new ones
+            int keep = Math.max(0, dirtyFrom - windowFrom);
+            releaseCells(keep, cells.size());
+            windowTo = windowFrom + keep;
+        }
+        dirtyFrom = Integer.MAX_VALUE;
+
+        // Drop rows that left the view
+        if ( from > windowFrom ) {
+            int count = Math.min(from, windowTo) - windowFrom;
+            releaseCells(0, count);
+            windowFrom += count;
+        }
+        if ( to < windowTo ) {
+            releaseCells(to - windowFrom, cells.size());
+            windowTo = to;
+        }
+        if ( windowFrom == windowTo ) {
+            windowFrom = windowTo = from;
+        }
+
+        // Add rows that entered the view
+        if ( from < windowFrom ) {
+            cells.addAll(0, bindCells(from, windowFrom));
+            windowFrom = from;
+        }
+        if ( to > windowTo ) {
+            cells.addAll(bindCells(windowTo, to));
+            windowTo = to;
+        }
+        skin.updateCellStates(grid, windowFrom);
+    }
+
+    /**
+     * Creates bound cells for the items [from, to).
+     */
+    private List<Node> bindCells( int from, int to ) {
+        PaginatedTiles<T> control = skin.getSkinnable();
+        List<Node> cells = new ArrayList<>(to - from);
+        for ( int i = from; i < to; i++ ) {
+            PaginatedTilesCell<T> cell = skin.obtainCell();
+            cell.bindItem(skin.getViewItem(i), control.getBackgroundExecutor());
+            cells.add(cell);
+        }
+        return cells;
+    }
+
+    /**
+     * Takes the cells at the grid positions [from, to) off the grid and releases them.
+     */
+    @SuppressWarnings("unchecked")
+    private void releaseCells( int from, int to ) {
+        if ( from >= to ) {
+            return;
+        }
+        ObservableList<Node> cells = grid.getChildren();
+        List<Node> released = new ArrayList<>(cells.subList(from, to));
+        cells.remove(from, to);
+        for ( Node cell : released ) {
+            skin.releaseCell((PaginatedTilesCell<T>) cell);
+        }
+    }
+
+    /**
+     * Releases all cells, so the next layout pass binds the visible rows from scratch.
+     */
+    void reset() {
+        releaseCells(0, grid.getChildren().size());
+        windowFrom = windowTo = 0;
+        windowColumns = 0;
+        requestLayout();
+    }
+
+}